@@ -6,6 +6,8 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implementation of the Binary Search algorithm.
@@ -15,6 +17,17 @@ import java.util.Objects;
  * the half that cannot contain the target element.
  * </p>
  * <p>
+ * {@code binarySearch} returns any matching index, or -1. The bound methods
+ * ({@code lowerBound}, {@code upperBound}, {@code equalRange}, {@code insertionPoint} and
+ * {@code countInRange}) are duplicate-aware: they locate the ends of a run of equal keys or
+ * the insertion point of an absent key in O(log n), however long the run is.
+ * </p>
+ * <p>
+ * {@code insertionPoints} and {@code parallelInsertionPoints} answer a whole batch of keys at
+ * once, sweeping through the array when the keys are sorted and interleaving independent
+ * searches when they are not.
+ * </p>
+ * <p>
  * <strong>Time Complexity:</strong> O(log n)<br>
  * <strong>Space Complexity:</strong> O(1)<br>
  * <strong>Prerequisite:</strong> The collection must be sorted in ascending order
@@ -26,6 +39,17 @@ import java.util.Objects;
  */
 public final class BinarySearch {
 
+    /**
+     * Default number of keys below which {@code parallelInsertionPoints} stops splitting work
+     * into tasks.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Number of searches the batch kernels advance together on unsorted keys.
+     */
+    private static final int BATCH_LANES = 16;
+
     private BinarySearch() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -76,7 +100,6 @@ public final class BinarySearch {
     /**
      * Searches for an element in the sorted array using binary search.
      * <p>
-     * Convenience method that converts the array to a list and performs the search.
      * The array elements must implement {@link Comparable} and the array
      * must be sorted in ascending natural order.
      * </p>
@@ -89,14 +112,12 @@ public final class BinarySearch {
      */
     public static <T extends Comparable<T>> int binarySearch(@NotNull final T[] array, final T key) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        return binarySearch(list, key);
+        return search(array, key, Comparable::compareTo);
     }
 
     /**
      * Searches for an element in the sorted array using binary search with a custom comparator.
      * <p>
-     * Convenience method that converts the array to a list and performs the search.
      * The array must be sorted according to the specified comparator.
      * </p>
      *
@@ -112,39 +133,2625 @@ public final class BinarySearch {
                                        @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        return binarySearch(list, key, comparator);
+        return search(array, key, comparator);
     }
 
-    // ========== PRIVATE IMPLEMENTATION ==========
+    // ========== PUBLIC API - Primitive Array Operations ==========
 
     /**
-     * Core binary search implementation using iterative approach.
+     * Searches for a value in the sorted array of {@code int} values using binary search.
+     * <p>
+     * The array must be sorted in ascending numerical order.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the value if found, or -1 if not found
+     * @throws NullPointerException if the array is null
      */
-    private static <T> int search(@NotNull final List<T> list,
-                                  final T key,
-                                  @NotNull final Comparator<T> comparator) {
-        int low = 0;
-        int high = list.size() - 1;
+    public static int binarySearch(@NotNull final int[] array, final int key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return search(array, key);
+    }
 
-        while (low <= high) {
-            // Use this formula to prevent integer overflow
-            final int mid = low + (high - low) / 2;
-            final int comparison = comparator.compare(list.get(mid), key);
+    /**
+     * Searches for a value in the sorted array of {@code long} values using binary search.
+     * <p>
+     * The array must be sorted in ascending numerical order.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the value if found, or -1 if not found
+     * @throws NullPointerException if the array is null
+     */
+    public static int binarySearch(@NotNull final long[] array, final long key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return search(array, key);
+    }
 
-            if (comparison < 0) {
-                // Middle element is less than key, search right half
-                low = mid + 1;
-            } else if (comparison > 0) {
-                // Middle element is greater than key, search left half
-                high = mid - 1;
-            } else {
-                // Element found
-                return mid;
-            }
-        }
+    /**
+     * Searches for a value in the sorted array of {@code short} values using binary search.
+     * <p>
+     * The array must be sorted in ascending numerical order.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the value if found, or -1 if not found
+     * @throws NullPointerException if the array is null
+     */
+    public static int binarySearch(@NotNull final short[] array, final short key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return search(array, key);
+    }
 
-        // Element not found
-        return -1;
+    /**
+     * Searches for a value in the sorted array of {@code char} values using binary search.
+     * <p>
+     * The array must be sorted in ascending numerical order.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the value if found, or -1 if not found
+     * @throws NullPointerException if the array is null
+     */
+    public static int binarySearch(@NotNull final char[] array, final char key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return search(array, key);
+    }
+
+    /**
+     * Searches for a value in the sorted array of {@code float} values using binary search.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Float#compare(float, float)},
+     * as produced by the primitive sort overloads in this library. NaN and {@code -0.0} are
+     * matched exactly.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the value if found, or -1 if not found
+     * @throws NullPointerException if the array is null
+     */
+    public static int binarySearch(@NotNull final float[] array, final float key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return search(array, key);
+    }
+
+    /**
+     * Searches for a value in the sorted array of {@code double} values using binary search.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * as produced by the primitive sort overloads in this library. NaN and {@code -0.0} are
+     * matched exactly.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the value if found, or -1 if not found
+     * @throws NullPointerException if the array is null
+     */
+    public static int binarySearch(@NotNull final double[] array, final double key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return search(array, key);
+    }
+
+    // ========== PUBLIC API - List Bounds ==========
+
+    /**
+     * Returns the index of the first element in the sorted list that is not less than the key.
+     * <p>
+     * The list must be sorted in ascending natural order. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal element.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the sorted list to search
+     * @param key  the element to search for
+     * @return the index of the first element greater than or equal to the key, or the list size if
+     *         there is none
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int lowerBound(@NotNull final List<T> list, final T key) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return lowerBound(list, key, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the index of the first element in the sorted list that is not less than the key.
+     * <p>
+     * The list must be sorted according to the comparator. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal element.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the sorted list to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the list
+     * @return the index of the first element greater than or equal to the key, or the list size if
+     *         there is none
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int lowerBound(@NotNull final List<T> list,
+                                     final T key,
+                                     @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return lowerBound(list, 0, list.size(), key, comparator);
+    }
+
+    /**
+     * Returns the index of the first element in the sorted list that is greater than the key.
+     * <p>
+     * The list must be sorted in ascending natural order. This is the rightmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the position just past
+     * the last equal element.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the sorted list to search
+     * @param key  the element to search for
+     * @return the index of the first element greater than the key, or the list size if there is none
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int upperBound(@NotNull final List<T> list, final T key) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return upperBound(list, key, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the index of the first element in the sorted list that is greater than the key.
+     * <p>
+     * The list must be sorted according to the comparator. This is the rightmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the position just past
+     * the last equal element.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the sorted list to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the list
+     * @return the index of the first element greater than the key, or the list size if there is none
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int upperBound(@NotNull final List<T> list,
+                                     final T key,
+                                     @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return upperBound(list, 0, list.size(), key, comparator);
+    }
+
+    /**
+     * Returns the range of elements in the sorted list that are equal to the key.
+     * <p>
+     * The list must be sorted in ascending natural order. The search narrows the range until it meets an
+     * equal element, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the sorted list to search
+     * @param key  the element to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the
+     *         elements equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int[] equalRange(@NotNull final List<T> list, final T key) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return equalRange(list, key, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the range of elements in the sorted list that are equal to the key.
+     * <p>
+     * The list must be sorted according to the comparator. The search narrows the range until it meets
+     * an equal element, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the sorted list to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the list
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the
+     *         elements equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int[] equalRange(@NotNull final List<T> list,
+                                       final T key,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return equalRange(list, 0, list.size(), key, comparator);
+    }
+
+    /**
+     * Searches the sorted list for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The list must be sorted in ascending natural order. Unlike {@link #binarySearch}, the result tells
+     * where an absent key belongs, and with duplicates it is always the first equal element rather than
+     * whichever one the search reaches first.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the sorted list to search
+     * @param key  the element to search for
+     * @return the index of the first element equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         element greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int insertionPoint(@NotNull final List<T> list, final T key) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return insertionPoint(list, key, Comparable::compareTo);
+    }
+
+    /**
+     * Searches the sorted list for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The list must be sorted according to the comparator. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal element rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the sorted list to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the list
+     * @return the index of the first element equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         element greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int insertionPoint(@NotNull final List<T> list,
+                                         final T key,
+                                         @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return insertionPoint(list, 0, list.size(), key, comparator);
+    }
+
+    /**
+     * Counts the elements in the sorted list that lie between lo and hi, both inclusive.
+     * <p>
+     * The list must be sorted in ascending natural order. Two bound searches give the count in O(log n),
+     * independent of how many elements are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the sorted list to search
+     * @param lo   the lower end of the range, inclusive
+     * @param hi   the upper end of the range, inclusive
+     * @return the number of elements e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int countInRange(@NotNull final List<T> list, final T lo, final T hi) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return countInRange(list, lo, hi, Comparable::compareTo);
+    }
+
+    /**
+     * Counts the elements in the sorted list that lie between lo and hi, both inclusive.
+     * <p>
+     * The list must be sorted according to the comparator. Two bound searches give the count in O(log
+     * n), independent of how many elements are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the sorted list to search
+     * @param lo         the lower end of the range, inclusive
+     * @param hi         the upper end of the range, inclusive
+     * @param comparator the comparator that was used to sort the list
+     * @return the number of elements e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int countInRange(@NotNull final List<T> list,
+                                       final T lo,
+                                       final T hi,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return countInRange(list, 0, list.size(), lo, hi, comparator);
+    }
+
+    // ========== PUBLIC API - Array Bounds ==========
+
+    /**
+     * Returns the index of the first element in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending natural order. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal element.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the sorted array to search
+     * @param key   the element to search for
+     * @return the index of the first element greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int lowerBound(@NotNull final T[] array, final T key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, key, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the index of the first element in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted according to the comparator. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal element.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the array
+     * @return the index of the first element greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int lowerBound(@NotNull final T[] array,
+                                     final T key,
+                                     @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return lowerBound(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Returns the index of the first element in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending natural order. This is the rightmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the position just past
+     * the last equal element.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the sorted array to search
+     * @param key   the element to search for
+     * @return the index of the first element greater than the key, or the array length if there is
+     *         none
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int upperBound(@NotNull final T[] array, final T key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, key, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the index of the first element in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted according to the comparator. This is the rightmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the position just past
+     * the last equal element.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the array
+     * @return the index of the first element greater than the key, or the array length if there is
+     *         none
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int upperBound(@NotNull final T[] array,
+                                     final T key,
+                                     @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return upperBound(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Returns the range of elements in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending natural order. The search narrows the range until it meets
+     * an equal element, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the sorted array to search
+     * @param key   the element to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the
+     *         elements equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int[] equalRange(@NotNull final T[] array, final T key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, key, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the range of elements in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted according to the comparator. The search narrows the range until it meets
+     * an equal element, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the array
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the
+     *         elements equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int[] equalRange(@NotNull final T[] array,
+                                       final T key,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return equalRange(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending natural order. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal element rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the sorted array to search
+     * @param key   the element to search for
+     * @return the index of the first element equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         element greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int insertionPoint(@NotNull final T[] array, final T key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, key, Comparable::compareTo);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted according to the comparator. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal element rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param key        the element to search for
+     * @param comparator the comparator that was used to sort the array
+     * @return the index of the first element equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         element greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int insertionPoint(@NotNull final T[] array,
+                                         final T key,
+                                         @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return insertionPoint(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Counts the elements in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending natural order. Two bound searches give the count in O(log
+     * n), independent of how many elements are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of elements e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int countInRange(@NotNull final T[] array, final T lo, final T hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, lo, hi, Comparable::compareTo);
+    }
+
+    /**
+     * Counts the elements in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted according to the comparator. Two bound searches give the count in O(log
+     * n), independent of how many elements are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param lo         the lower end of the range, inclusive
+     * @param hi         the upper end of the range, inclusive
+     * @param comparator the comparator that was used to sort the array
+     * @return the number of elements e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int countInRange(@NotNull final T[] array,
+                                       final T lo,
+                                       final T hi,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return countInRange(array, 0, array.length, lo, hi, comparator);
+    }
+
+    // ========== PUBLIC API - Primitive Array Bounds ==========
+
+    /**
+     * Returns the index of the first value in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal value.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int lowerBound(@NotNull final int[] array, final int key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal value.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int lowerBound(@NotNull final long[] array, final long key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal value.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int lowerBound(@NotNull final short[] array, final short key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the leftmost index at which the key
+     * could be inserted without breaking the order, so with duplicates it finds the first equal value.
+     * It takes O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int lowerBound(@NotNull final char[] array, final char key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Float#compare(float, float)},
+     * which is also how the key is compared. This is the leftmost index at which the key could be
+     * inserted without breaking the order, so with duplicates it finds the first equal value. It takes
+     * O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int lowerBound(@NotNull final float[] array, final float key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is not less than the key.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * which is also how the key is compared. This is the leftmost index at which the key could be
+     * inserted without breaking the order, so with duplicates it finds the first equal value. It takes
+     * O(log n) comparisons however many duplicates there are.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than or equal to the key, or the array length if
+     *         there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int lowerBound(@NotNull final double[] array, final double key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the rightmost index at which the
+     * key could be inserted without breaking the order, so with duplicates it finds the position just
+     * past the last equal value.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than the key, or the array length if there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int upperBound(@NotNull final int[] array, final int key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the rightmost index at which the
+     * key could be inserted without breaking the order, so with duplicates it finds the position just
+     * past the last equal value.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than the key, or the array length if there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int upperBound(@NotNull final long[] array, final long key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the rightmost index at which the
+     * key could be inserted without breaking the order, so with duplicates it finds the position just
+     * past the last equal value.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than the key, or the array length if there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int upperBound(@NotNull final short[] array, final short key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. This is the rightmost index at which the
+     * key could be inserted without breaking the order, so with duplicates it finds the position just
+     * past the last equal value.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than the key, or the array length if there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int upperBound(@NotNull final char[] array, final char key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Float#compare(float, float)},
+     * which is also how the key is compared. This is the rightmost index at which the key could be
+     * inserted without breaking the order, so with duplicates it finds the position just past the last
+     * equal value.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than the key, or the array length if there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int upperBound(@NotNull final float[] array, final float key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value in the sorted array that is greater than the key.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * which is also how the key is compared. This is the rightmost index at which the key could be
+     * inserted without breaking the order, so with duplicates it finds the position just past the last
+     * equal value.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value greater than the key, or the array length if there is none
+     * @throws NullPointerException if the array is null
+     */
+    public static int upperBound(@NotNull final double[] array, final double key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return upperBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the range of values in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. The search narrows the range until it meets
+     * an equal value, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the values
+     *         equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] equalRange(@NotNull final int[] array, final int key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the range of values in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. The search narrows the range until it meets
+     * an equal value, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the values
+     *         equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] equalRange(@NotNull final long[] array, final long key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the range of values in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. The search narrows the range until it meets
+     * an equal value, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the values
+     *         equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] equalRange(@NotNull final short[] array, final short key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the range of values in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending numerical order. The search narrows the range until it meets
+     * an equal value, then finds both ends from there, so it costs at most one search more than
+     * {@link #lowerBound} alone.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the values
+     *         equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] equalRange(@NotNull final char[] array, final char key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the range of values in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Float#compare(float, float)},
+     * which is also how the key is compared. The search narrows the range until it meets an equal value,
+     * then finds both ends from there, so it costs at most one search more than {@link #lowerBound}
+     * alone.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the values
+     *         equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] equalRange(@NotNull final float[] array, final float key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the range of values in the sorted array that are equal to the key.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * which is also how the key is compared. The search narrows the range until it meets an equal value,
+     * then finds both ends from there, so it costs at most one search more than {@link #lowerBound}
+     * alone.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return a new two-element array {@code {from, to}} such that [from, to) holds exactly the values
+     *         equal to the key; if there are none, both ends are the insertion point
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] equalRange(@NotNull final double[] array, final double key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return equalRange(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending numerical order. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal value rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         value greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static int insertionPoint(@NotNull final int[] array, final int key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending numerical order. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal value rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         value greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static int insertionPoint(@NotNull final long[] array, final long key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending numerical order. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal value rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         value greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static int insertionPoint(@NotNull final short[] array, final short key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending numerical order. Unlike {@link #binarySearch}, the result
+     * tells where an absent key belongs, and with duplicates it is always the first equal value rather
+     * than whichever one the search reaches first.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         value greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static int insertionPoint(@NotNull final char[] array, final char key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Float#compare(float, float)},
+     * which is also how the key is compared. Unlike {@link #binarySearch}, the result tells where an
+     * absent key belongs, and with duplicates it is always the first equal value rather than whichever
+     * one the search reaches first.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         value greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static int insertionPoint(@NotNull final float[] array, final float key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, 0, array.length, key);
+    }
+
+    /**
+     * Searches the sorted array for the key, following the {@link java.util.Arrays#binarySearch} result
+     * convention.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * which is also how the key is compared. Unlike {@link #binarySearch}, the result tells where an
+     * absent key belongs, and with duplicates it is always the first equal value rather than whichever
+     * one the search reaches first.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param key   the value to search for
+     * @return the index of the first value equal to the key, if present; otherwise
+     *         {@code -(insertion point + 1)}, where the insertion point is the index of the first
+     *         value greater than the key, so the result is non-negative only when the key is found
+     * @throws NullPointerException if the array is null
+     */
+    public static int insertionPoint(@NotNull final double[] array, final double key) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoint(array, 0, array.length, key);
+    }
+
+    /**
+     * Counts the values in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending numerical order. Two bound searches give the count in O(log
+     * n), independent of how many values are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of values e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static int countInRange(@NotNull final int[] array, final int lo, final int hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, 0, array.length, lo, hi);
+    }
+
+    /**
+     * Counts the values in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending numerical order. Two bound searches give the count in O(log
+     * n), independent of how many values are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of values e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static int countInRange(@NotNull final long[] array, final long lo, final long hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, 0, array.length, lo, hi);
+    }
+
+    /**
+     * Counts the values in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending numerical order. Two bound searches give the count in O(log
+     * n), independent of how many values are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of values e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static int countInRange(@NotNull final short[] array, final short lo, final short hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, 0, array.length, lo, hi);
+    }
+
+    /**
+     * Counts the values in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending numerical order. Two bound searches give the count in O(log
+     * n), independent of how many values are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of values e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static int countInRange(@NotNull final char[] array, final char lo, final char hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, 0, array.length, lo, hi);
+    }
+
+    /**
+     * Counts the values in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Float#compare(float, float)},
+     * which is also how the key is compared. Two bound searches give the count in O(log n), independent
+     * of how many values are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of values e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static int countInRange(@NotNull final float[] array, final float lo, final float hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, 0, array.length, lo, hi);
+    }
+
+    /**
+     * Counts the values in the sorted array that lie between lo and hi, both inclusive.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * which is also how the key is compared. Two bound searches give the count in O(log n), independent
+     * of how many values are counted. For a half-open range [lo, hi), use
+     * {@code lowerBound(hi) - lowerBound(lo)} instead.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param lo    the lower end of the range, inclusive
+     * @param hi    the upper end of the range, inclusive
+     * @return the number of values e with lo &lt;= e &lt;= hi, or 0 if lo is greater than hi
+     * @throws NullPointerException if the array is null
+     */
+    public static int countInRange(@NotNull final double[] array, final double lo, final double hi) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return countInRange(array, 0, array.length, lo, hi);
+    }
+
+    // ========== PUBLIC API - Batch Operations ==========
+
+    /**
+     * Finds the insertion points of many keys in the sorted list in ascending natural order.
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the sorted list to search
+     * @param keys the elements to search for, in any order
+     * @return a new array holding the result for the i-th key at index i
+     * @throws NullPointerException if the list or keys is null
+     * @see #insertionPoints(Object[], Object[], Comparator)
+     */
+    public static <T extends Comparable<T>> int[] insertionPoints(@NotNull final List<T> list,
+                                                                  @NotNull final List<T> keys) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return insertionPoints(list, keys, Comparable::compareTo);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the list sorted by the comparator.
+     * <p>
+     * The list and the keys are each copied into an array once, so the searches run on
+     * direct element access.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the sorted list to search
+     * @param keys       the elements to search for, in any order
+     * @param comparator the comparator that was used to sort the list
+     * @return a new array holding the result for the i-th key at index i
+     * @throws NullPointerException if the list, keys or comparator is null
+     * @see #insertionPoints(Object[], Object[], Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> int[] insertionPoints(@NotNull final List<T> list,
+                                            @NotNull final List<T> keys,
+                                            @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return insertionPoints((T[]) list.toArray(), (T[]) keys.toArray(), comparator);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array in ascending natural order.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the sorted array to search
+     * @param keys  the elements to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     * @see #insertionPoints(Object[], Object[], Comparator)
+     */
+    public static <T extends Comparable<T>> int[] insertionPoints(@NotNull final T[] array, @NotNull final T[] keys) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return insertionPoints(array, keys, Comparable::compareTo);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the array sorted by the comparator.
+     * <p>
+     * Each result follows {@link #insertionPoint(Object[], Object, Comparator)}: the index of
+     * the first element equal to the key, or {@code -(insertion point + 1)}. When the keys are
+     * sorted too, a single galloping sweep moves forward through the array, which costs
+     * O(q log(n / q)) comparisons for q keys instead of O(q log n) and touches the array in
+     * order. Otherwise the searches run 16 at a time in lockstep: their
+     * probes do not depend on each other, so the processor overlaps their cache misses instead
+     * of waiting for them one by one.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param keys       the elements to search for, in any order
+     * @param comparator the comparator that was used to sort the array
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array, keys or comparator is null
+     */
+    public static <T> int[] insertionPoints(@NotNull final T[] array,
+                                            @NotNull final T[] keys,
+                                            @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        final int[] result = new int[keys.length];
+        insertionPoints(array, keys, result, 0, keys.length, comparator);
+        return result;
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code int} values.
+     * <p>
+     * The array must be sorted in ascending numerical order. Each result follows {@link #insertionPoint(int[], int)}.
+     * Sorted keys are answered by one galloping sweep and unsorted keys by
+     * 16 interleaved searches, as described in
+     * {@link #insertionPoints(Object[], Object[], Comparator)}.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param keys  the values to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     */
+    public static int[] insertionPoints(@NotNull final int[] array, @NotNull final int[] keys) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+
+        final int[] result = new int[keys.length];
+        insertionPoints(array, keys, result, 0, keys.length);
+        return result;
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code long} values.
+     * <p>
+     * The array must be sorted in ascending numerical order. Each result follows {@link #insertionPoint(long[], long)}.
+     * Sorted keys are answered by one galloping sweep and unsorted keys by
+     * 16 interleaved searches, as described in
+     * {@link #insertionPoints(Object[], Object[], Comparator)}.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param keys  the values to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     */
+    public static int[] insertionPoints(@NotNull final long[] array, @NotNull final long[] keys) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+
+        final int[] result = new int[keys.length];
+        insertionPoints(array, keys, result, 0, keys.length);
+        return result;
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code double} values.
+     * <p>
+     * The array must be sorted in ascending order as defined by {@link Double#compare(double, double)},
+     * which is also how the keys are compared. Each result follows {@link #insertionPoint(double[], double)}.
+     * Sorted keys are answered by one galloping sweep and unsorted keys by
+     * 16 interleaved searches, as described in
+     * {@link #insertionPoints(Object[], Object[], Comparator)}.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param keys  the values to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     */
+    public static int[] insertionPoints(@NotNull final double[] array, @NotNull final double[] keys) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+
+        final int[] result = new int[keys.length];
+        insertionPoints(array, keys, result, 0, keys.length);
+        return result;
+    }
+
+    // ========== PUBLIC API - Parallel Batch Operations ==========
+
+    /**
+     * Finds the insertion points of many keys in the array sorted by the comparator, in parallel.
+     * <p>
+     * The keys are split across the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param keys       the elements to search for, in any order
+     * @param comparator the comparator that was used to sort the array
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array, keys or comparator is null
+     * @see #insertionPoints(Object[], Object[], Comparator)
+     */
+    public static <T> int[] parallelInsertionPoints(@NotNull final T[] array,
+                                                    @NotNull final T[] keys,
+                                                    @NotNull final Comparator<T> comparator) {
+        return parallelInsertionPoints(array, keys, comparator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the array sorted by the comparator, in parallel
+     * on the given pool.
+     * <p>
+     * The keys are split in halves until at most {@code threshold} remain, and each part is
+     * searched sequentially, so a part of sorted keys is still answered by a sweep.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the sorted array to search
+     * @param keys       the elements to search for, in any order
+     * @param comparator the comparator that was used to sort the array
+     * @param pool       the pool in which the search tasks are executed
+     * @param threshold  the number of keys below which work is done sequentially
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException     if the array, keys, comparator or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     * @see #insertionPoints(Object[], Object[], Comparator)
+     */
+    public static <T> int[] parallelInsertionPoints(@NotNull final T[] array,
+                                                    @NotNull final T[] keys,
+                                                    @NotNull final Comparator<T> comparator,
+                                                    @NotNull final ForkJoinPool pool,
+                                                    final int threshold) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        final int[] result = new int[keys.length];
+        final BatchKernel kernel = (from, to) -> insertionPoints(array, keys, result, from, to, comparator);
+        runBatch(kernel, keys.length, pool, threshold);
+        return result;
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code int} values, in
+     * parallel.
+     * <p>
+     * The keys are split across the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param keys  the values to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     * @see #insertionPoints(int[], int[])
+     */
+    public static int[] parallelInsertionPoints(@NotNull final int[] array, @NotNull final int[] keys) {
+        return parallelInsertionPoints(array, keys, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code int} values, in
+     * parallel on the given pool.
+     * <p>
+     * The keys are split in halves until at most {@code threshold} remain, and each part is
+     * searched sequentially.
+     * </p>
+     *
+     * @param array     the sorted array to search
+     * @param keys      the values to search for, in any order
+     * @param pool      the pool in which the search tasks are executed
+     * @param threshold the number of keys below which work is done sequentially
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException     if the array, keys or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     * @see #insertionPoints(int[], int[])
+     */
+    public static int[] parallelInsertionPoints(@NotNull final int[] array,
+                                                @NotNull final int[] keys,
+                                                @NotNull final ForkJoinPool pool,
+                                                final int threshold) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        final int[] result = new int[keys.length];
+        runBatch((from, to) -> insertionPoints(array, keys, result, from, to), keys.length, pool, threshold);
+        return result;
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code long} values, in
+     * parallel.
+     * <p>
+     * The keys are split across the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param keys  the values to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     * @see #insertionPoints(long[], long[])
+     */
+    public static int[] parallelInsertionPoints(@NotNull final long[] array, @NotNull final long[] keys) {
+        return parallelInsertionPoints(array, keys, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code long} values, in
+     * parallel on the given pool.
+     * <p>
+     * The keys are split in halves until at most {@code threshold} remain, and each part is
+     * searched sequentially.
+     * </p>
+     *
+     * @param array     the sorted array to search
+     * @param keys      the values to search for, in any order
+     * @param pool      the pool in which the search tasks are executed
+     * @param threshold the number of keys below which work is done sequentially
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException     if the array, keys or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     * @see #insertionPoints(long[], long[])
+     */
+    public static int[] parallelInsertionPoints(@NotNull final long[] array,
+                                                @NotNull final long[] keys,
+                                                @NotNull final ForkJoinPool pool,
+                                                final int threshold) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        final int[] result = new int[keys.length];
+        runBatch((from, to) -> insertionPoints(array, keys, result, from, to), keys.length, pool, threshold);
+        return result;
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code double} values, in
+     * parallel.
+     * <p>
+     * The keys are split across the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param array the sorted array to search
+     * @param keys  the values to search for, in any order
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException if the array or keys is null
+     * @see #insertionPoints(double[], double[])
+     */
+    public static int[] parallelInsertionPoints(@NotNull final double[] array, @NotNull final double[] keys) {
+        return parallelInsertionPoints(array, keys, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Finds the insertion points of many keys in the sorted array of {@code double} values, in
+     * parallel on the given pool.
+     * <p>
+     * The keys are split in halves until at most {@code threshold} remain, and each part is
+     * searched sequentially.
+     * </p>
+     *
+     * @param array     the sorted array to search
+     * @param keys      the values to search for, in any order
+     * @param pool      the pool in which the search tasks are executed
+     * @param threshold the number of keys below which work is done sequentially
+     * @return a new array holding the result for keys[i] at index i
+     * @throws NullPointerException     if the array, keys or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     * @see #insertionPoints(double[], double[])
+     */
+    public static int[] parallelInsertionPoints(@NotNull final double[] array,
+                                                @NotNull final double[] keys,
+                                                @NotNull final ForkJoinPool pool,
+                                                final int threshold) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keys, "Keys cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        final int[] result = new int[keys.length];
+        runBatch((from, to) -> insertionPoints(array, keys, result, from, to), keys.length, pool, threshold);
+        return result;
+    }
+
+    // ========== INTERNAL API - Bound Kernels ==========
+    //
+    // Each kernel searches the half-open range [low, high) and returns absolute indices.
+
+    /**
+     * Returns the first index in [low, high) whose element is not less than the key.
+     */
+    static <T> int lowerBound(@NotNull final List<T> list,
+                              final int low,
+                              final int high,
+                              final T key,
+                              @NotNull final Comparator<T> comparator) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (comparator.compare(list.get(mid), key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Returns the first index in [low, high) whose element is greater than the key.
+     */
+    static <T> int upperBound(@NotNull final List<T> list,
+                              final int low,
+                              final int high,
+                              final T key,
+                              @NotNull final Comparator<T> comparator) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (comparator.compare(list.get(mid), key) > 0) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Returns {lowerBound, upperBound} of the key in [low, high). Once an equal element is
+     * found at mid, the lower bound can only lie left of it and the upper bound right of it.
+     */
+    static <T> int[] equalRange(@NotNull final List<T> list,
+                                final int low,
+                                final int high,
+                                final T key,
+                                @NotNull final Comparator<T> comparator) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = comparator.compare(list.get(mid), key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(list, left, mid, key, comparator);
+                return new int[]{from, upperBound(list, mid + 1, right, key, comparator)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static <T> int insertionPoint(@NotNull final List<T> list,
+                                  final int low,
+                                  final int high,
+                                  final T key,
+                                  @NotNull final Comparator<T> comparator) {
+        final int index = lowerBound(list, low, high, key, comparator);
+        return index < high && comparator.compare(list.get(index), key) == 0 ? index : -(index + 1);
+    }
+
+    static <T> int countInRange(@NotNull final List<T> list,
+                                final int low,
+                                final int high,
+                                final T lo,
+                                final T hi,
+                                @NotNull final Comparator<T> comparator) {
+        if (comparator.compare(lo, hi) > 0) {
+            return 0;
+        }
+        final int from = lowerBound(list, low, high, lo, comparator);
+        return upperBound(list, from, high, hi, comparator) - from;
+    }
+
+    /**
+     * Returns the first index in [low, high) whose element is not less than the key.
+     */
+    static <T> int lowerBound(@NotNull final T[] array,
+                              final int low,
+                              final int high,
+                              final T key,
+                              @NotNull final Comparator<T> comparator) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (comparator.compare(array[mid], key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Returns the first index in [low, high) whose element is greater than the key.
+     */
+    static <T> int upperBound(@NotNull final T[] array,
+                              final int low,
+                              final int high,
+                              final T key,
+                              @NotNull final Comparator<T> comparator) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (comparator.compare(array[mid], key) > 0) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Returns {lowerBound, upperBound} of the key in [low, high). Once an equal element is
+     * found at mid, the lower bound can only lie left of it and the upper bound right of it.
+     */
+    static <T> int[] equalRange(@NotNull final T[] array,
+                                final int low,
+                                final int high,
+                                final T key,
+                                @NotNull final Comparator<T> comparator) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = comparator.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key, comparator);
+                return new int[]{from, upperBound(array, mid + 1, right, key, comparator)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static <T> int insertionPoint(@NotNull final T[] array,
+                                  final int low,
+                                  final int high,
+                                  final T key,
+                                  @NotNull final Comparator<T> comparator) {
+        final int index = lowerBound(array, low, high, key, comparator);
+        return index < high && comparator.compare(array[index], key) == 0 ? index : -(index + 1);
+    }
+
+    static <T> int countInRange(@NotNull final T[] array,
+                                final int low,
+                                final int high,
+                                final T lo,
+                                final T hi,
+                                @NotNull final Comparator<T> comparator) {
+        if (comparator.compare(lo, hi) > 0) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo, comparator);
+        return upperBound(array, from, high, hi, comparator) - from;
+    }
+
+    // ========== INTERNAL API - Primitive Bound Kernels ==========
+
+    static int lowerBound(@NotNull final int[] array, final int low, final int high, final int key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(@NotNull final int[] array, final int low, final int high, final int key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] > key) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    static int[] equalRange(@NotNull final int[] array, final int low, final int high, final int key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = Integer.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key);
+                return new int[]{from, upperBound(array, mid + 1, right, key)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static int insertionPoint(@NotNull final int[] array, final int low, final int high, final int key) {
+        final int index = lowerBound(array, low, high, key);
+        return index < high && array[index] == key ? index : -(index + 1);
+    }
+
+    static int countInRange(@NotNull final int[] array, final int low, final int high, final int lo, final int hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo);
+        return upperBound(array, from, high, hi) - from;
+    }
+
+    static int lowerBound(@NotNull final long[] array, final int low, final int high, final long key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(@NotNull final long[] array, final int low, final int high, final long key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] > key) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    static int[] equalRange(@NotNull final long[] array, final int low, final int high, final long key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = Long.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key);
+                return new int[]{from, upperBound(array, mid + 1, right, key)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static int insertionPoint(@NotNull final long[] array, final int low, final int high, final long key) {
+        final int index = lowerBound(array, low, high, key);
+        return index < high && array[index] == key ? index : -(index + 1);
+    }
+
+    static int countInRange(@NotNull final long[] array, final int low, final int high, final long lo, final long hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo);
+        return upperBound(array, from, high, hi) - from;
+    }
+
+    static int lowerBound(@NotNull final short[] array, final int low, final int high, final short key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(@NotNull final short[] array, final int low, final int high, final short key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] > key) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    static int[] equalRange(@NotNull final short[] array, final int low, final int high, final short key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = Integer.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key);
+                return new int[]{from, upperBound(array, mid + 1, right, key)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static int insertionPoint(@NotNull final short[] array, final int low, final int high, final short key) {
+        final int index = lowerBound(array, low, high, key);
+        return index < high && array[index] == key ? index : -(index + 1);
+    }
+
+    static int countInRange(@NotNull final short[] array,
+                            final int low,
+                            final int high,
+                            final short lo,
+                            final short hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo);
+        return upperBound(array, from, high, hi) - from;
+    }
+
+    static int lowerBound(@NotNull final char[] array, final int low, final int high, final char key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(@NotNull final char[] array, final int low, final int high, final char key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] > key) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    static int[] equalRange(@NotNull final char[] array, final int low, final int high, final char key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = Integer.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key);
+                return new int[]{from, upperBound(array, mid + 1, right, key)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static int insertionPoint(@NotNull final char[] array, final int low, final int high, final char key) {
+        final int index = lowerBound(array, low, high, key);
+        return index < high && array[index] == key ? index : -(index + 1);
+    }
+
+    static int countInRange(@NotNull final char[] array, final int low, final int high, final char lo, final char hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo);
+        return upperBound(array, from, high, hi) - from;
+    }
+
+    static int lowerBound(@NotNull final float[] array, final int low, final int high, final float key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (Float.compare(array[mid], key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(@NotNull final float[] array, final int low, final int high, final float key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (Float.compare(array[mid], key) > 0) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    static int[] equalRange(@NotNull final float[] array, final int low, final int high, final float key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = Float.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key);
+                return new int[]{from, upperBound(array, mid + 1, right, key)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static int insertionPoint(@NotNull final float[] array, final int low, final int high, final float key) {
+        final int index = lowerBound(array, low, high, key);
+        return index < high && Float.compare(array[index], key) == 0 ? index : -(index + 1);
+    }
+
+    static int countInRange(@NotNull final float[] array,
+                            final int low,
+                            final int high,
+                            final float lo,
+                            final float hi) {
+        if (Float.compare(lo, hi) > 0) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo);
+        return upperBound(array, from, high, hi) - from;
+    }
+
+    static int lowerBound(@NotNull final double[] array, final int low, final int high, final double key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (Double.compare(array[mid], key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(@NotNull final double[] array, final int low, final int high, final double key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (Double.compare(array[mid], key) > 0) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return left;
+    }
+
+    static int[] equalRange(@NotNull final double[] array, final int low, final int high, final double key) {
+        int left = low;
+        int right = high;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            final int comparison = Double.compare(array[mid], key);
+            if (comparison < 0) {
+                left = mid + 1;
+            } else if (comparison > 0) {
+                right = mid;
+            } else {
+                final int from = lowerBound(array, left, mid, key);
+                return new int[]{from, upperBound(array, mid + 1, right, key)};
+            }
+        }
+        return new int[]{left, left};
+    }
+
+    static int insertionPoint(@NotNull final double[] array, final int low, final int high, final double key) {
+        final int index = lowerBound(array, low, high, key);
+        return index < high && Double.compare(array[index], key) == 0 ? index : -(index + 1);
+    }
+
+    static int countInRange(@NotNull final double[] array,
+                            final int low,
+                            final int high,
+                            final double lo,
+                            final double hi) {
+        if (Double.compare(lo, hi) > 0) {
+            return 0;
+        }
+        final int from = lowerBound(array, low, high, lo);
+        return upperBound(array, from, high, hi) - from;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Core binary search implementation using iterative approach.
+     */
+    private static <T> int search(@NotNull final List<T> list,
+                                  final T key,
+                                  @NotNull final Comparator<T> comparator) {
+        int low = 0;
+        int high = list.size() - 1;
+
+        while (low <= high) {
+            // Use this formula to prevent integer overflow
+            final int mid = low + (high - low) / 2;
+            final int comparison = comparator.compare(list.get(mid), key);
+
+            if (comparison < 0) {
+                // Middle element is less than key, search right half
+                low = mid + 1;
+            } else if (comparison > 0) {
+                // Middle element is greater than key, search left half
+                high = mid - 1;
+            } else {
+                // Element found
+                return mid;
+            }
+        }
+
+        // Element not found
+        return -1;
+    }
+
+    /**
+     * Core binary search implementation over an array, mirroring the list version
+     * with direct element access.
+     */
+    private static <T> int search(@NotNull final T[] array,
+                                  final T key,
+                                  @NotNull final Comparator<T> comparator) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            // Use this formula to prevent integer overflow
+            final int mid = low + (high - low) / 2;
+            final int comparison = comparator.compare(array[mid], key);
+
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Primitive Kernels ==========
+
+    private static int search(@NotNull final int[] array, final int key) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int value = array[mid];
+
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int search(@NotNull final long[] array, final long key) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long value = array[mid];
+
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int search(@NotNull final short[] array, final short key) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final short value = array[mid];
+
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int search(@NotNull final char[] array, final char key) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char value = array[mid];
+
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int search(@NotNull final float[] array, final float key) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = Float.compare(array[mid], key);
+
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int search(@NotNull final double[] array, final double key) {
+        int low = 0;
+        int high = array.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = Double.compare(array[mid], key);
+
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Batch Kernels ==========
+
+    /**
+     * Writes the insertion point of keys[from..to) into result[from..to), with a sweep if
+     * those keys are sorted and interleaved searches otherwise.
+     */
+    private static <T> void insertionPoints(@NotNull final T[] array,
+                                            @NotNull final T[] keys,
+                                            @NotNull final int[] result,
+                                            final int from,
+                                            final int to,
+                                            @NotNull final Comparator<T> comparator) {
+        int sorted = from + 1;
+        while (sorted < to && comparator.compare(keys[sorted - 1], keys[sorted]) <= 0) {
+            sorted++;
+        }
+
+        if (sorted >= to) {
+            sweep(array, keys, result, from, to, comparator);
+        } else {
+            interleave(array, keys, result, from, to, comparator);
+        }
+    }
+
+    /**
+     * Answers sorted keys in one pass. Each search gallops forward from the previous answer
+     * with steps of 1, 2, 4, ... and finishes with a binary search inside the last step, so a
+     * key d positions further than the previous one costs O(log d) comparisons.
+     */
+    private static <T> void sweep(@NotNull final T[] array,
+                                  @NotNull final T[] keys,
+                                  @NotNull final int[] result,
+                                  final int from,
+                                  final int to,
+                                  @NotNull final Comparator<T> comparator) {
+        final int n = array.length;
+        int start = 0;
+        for (int i = from; i < to; i++) {
+            final T key = keys[i];
+            int left = start;
+            int right = start;
+            int step = 1;
+            while (right < n && comparator.compare(array[right], key) < 0) {
+                left = right + 1;
+                right = n - left > step ? left + step : n;
+                step = step > n >>> 1 ? n : step << 1;
+            }
+
+            start = lowerBound(array, left, right, key, comparator);
+            result[i] = start < n && comparator.compare(array[start], key) == 0 ? start : -(start + 1);
+        }
+    }
+
+    /**
+     * Answers keys in groups of {@link #BATCH_LANES} with branch-free searches that all halve
+     * the same length in lockstep. The probes of different lanes are independent, so their
+     * loads can be in flight together, which hides much of the memory latency of searching a
+     * large array. Java cannot issue prefetches, so this overlap is the available substitute.
+     */
+    private static <T> void interleave(@NotNull final T[] array,
+                                       @NotNull final T[] keys,
+                                       @NotNull final int[] result,
+                                       final int from,
+                                       final int to,
+                                       @NotNull final Comparator<T> comparator) {
+        final int n = array.length;
+        final int[] bases = new int[BATCH_LANES];
+        int i = from;
+        if (n > 0) {
+            for (; i + BATCH_LANES <= to; i += BATCH_LANES) {
+                Arrays.fill(bases, 0);
+                for (int length = n; length > 1; ) {
+                    final int half = length >>> 1;
+                    for (int lane = 0; lane < BATCH_LANES; lane++) {
+                        final int base = bases[lane];
+                        final boolean below = comparator.compare(array[base + half - 1], keys[i + lane]) < 0;
+                        bases[lane] = below ? base + half : base;
+                    }
+                    length -= half;
+                }
+
+                for (int lane = 0; lane < BATCH_LANES; lane++) {
+                    final T key = keys[i + lane];
+                    final int base = bases[lane];
+                    final int index = comparator.compare(array[base], key) < 0 ? base + 1 : base;
+                    result[i + lane] = index < n && comparator.compare(array[index], key) == 0 ? index : -(index + 1);
+                }
+            }
+        }
+
+        // Keys that do not fill a whole group of lanes
+        for (; i < to; i++) {
+            result[i] = insertionPoint(array, 0, n, keys[i], comparator);
+        }
+    }
+
+    private static void insertionPoints(@NotNull final int[] array,
+                                        @NotNull final int[] keys,
+                                        @NotNull final int[] result,
+                                        final int from,
+                                        final int to) {
+        int sorted = from + 1;
+        while (sorted < to && keys[sorted - 1] <= keys[sorted]) {
+            sorted++;
+        }
+
+        if (sorted >= to) {
+            sweep(array, keys, result, from, to);
+        } else {
+            interleave(array, keys, result, from, to);
+        }
+    }
+
+    private static void sweep(@NotNull final int[] array,
+                              @NotNull final int[] keys,
+                              @NotNull final int[] result,
+                              final int from,
+                              final int to) {
+        final int n = array.length;
+        int start = 0;
+        for (int i = from; i < to; i++) {
+            final int key = keys[i];
+            int left = start;
+            int right = start;
+            int step = 1;
+            while (right < n && array[right] < key) {
+                left = right + 1;
+                right = n - left > step ? left + step : n;
+                step = step > n >>> 1 ? n : step << 1;
+            }
+
+            start = lowerBound(array, left, right, key);
+            result[i] = start < n && array[start] == key ? start : -(start + 1);
+        }
+    }
+
+    private static void interleave(@NotNull final int[] array,
+                                   @NotNull final int[] keys,
+                                   @NotNull final int[] result,
+                                   final int from,
+                                   final int to) {
+        final int n = array.length;
+        final int[] bases = new int[BATCH_LANES];
+        int i = from;
+        if (n > 0) {
+            for (; i + BATCH_LANES <= to; i += BATCH_LANES) {
+                Arrays.fill(bases, 0);
+                for (int length = n; length > 1; ) {
+                    final int half = length >>> 1;
+                    for (int lane = 0; lane < BATCH_LANES; lane++) {
+                        final int base = bases[lane];
+                        final boolean below = array[base + half - 1] < keys[i + lane];
+                        bases[lane] = below ? base + half : base;
+                    }
+                    length -= half;
+                }
+
+                for (int lane = 0; lane < BATCH_LANES; lane++) {
+                    final int key = keys[i + lane];
+                    final int base = bases[lane];
+                    final int index = array[base] < key ? base + 1 : base;
+                    result[i + lane] = index < n && array[index] == key ? index : -(index + 1);
+                }
+            }
+        }
+
+        // Keys that do not fill a whole group of lanes
+        for (; i < to; i++) {
+            result[i] = insertionPoint(array, 0, n, keys[i]);
+        }
+    }
+
+    private static void insertionPoints(@NotNull final long[] array,
+                                        @NotNull final long[] keys,
+                                        @NotNull final int[] result,
+                                        final int from,
+                                        final int to) {
+        int sorted = from + 1;
+        while (sorted < to && keys[sorted - 1] <= keys[sorted]) {
+            sorted++;
+        }
+
+        if (sorted >= to) {
+            sweep(array, keys, result, from, to);
+        } else {
+            interleave(array, keys, result, from, to);
+        }
+    }
+
+    private static void sweep(@NotNull final long[] array,
+                              @NotNull final long[] keys,
+                              @NotNull final int[] result,
+                              final int from,
+                              final int to) {
+        final int n = array.length;
+        int start = 0;
+        for (int i = from; i < to; i++) {
+            final long key = keys[i];
+            int left = start;
+            int right = start;
+            int step = 1;
+            while (right < n && array[right] < key) {
+                left = right + 1;
+                right = n - left > step ? left + step : n;
+                step = step > n >>> 1 ? n : step << 1;
+            }
+
+            start = lowerBound(array, left, right, key);
+            result[i] = start < n && array[start] == key ? start : -(start + 1);
+        }
+    }
+
+    private static void interleave(@NotNull final long[] array,
+                                   @NotNull final long[] keys,
+                                   @NotNull final int[] result,
+                                   final int from,
+                                   final int to) {
+        final int n = array.length;
+        final int[] bases = new int[BATCH_LANES];
+        int i = from;
+        if (n > 0) {
+            for (; i + BATCH_LANES <= to; i += BATCH_LANES) {
+                Arrays.fill(bases, 0);
+                for (int length = n; length > 1; ) {
+                    final int half = length >>> 1;
+                    for (int lane = 0; lane < BATCH_LANES; lane++) {
+                        final int base = bases[lane];
+                        final boolean below = array[base + half - 1] < keys[i + lane];
+                        bases[lane] = below ? base + half : base;
+                    }
+                    length -= half;
+                }
+
+                for (int lane = 0; lane < BATCH_LANES; lane++) {
+                    final long key = keys[i + lane];
+                    final int base = bases[lane];
+                    final int index = array[base] < key ? base + 1 : base;
+                    result[i + lane] = index < n && array[index] == key ? index : -(index + 1);
+                }
+            }
+        }
+
+        // Keys that do not fill a whole group of lanes
+        for (; i < to; i++) {
+            result[i] = insertionPoint(array, 0, n, keys[i]);
+        }
+    }
+
+    private static void insertionPoints(@NotNull final double[] array,
+                                        @NotNull final double[] keys,
+                                        @NotNull final int[] result,
+                                        final int from,
+                                        final int to) {
+        int sorted = from + 1;
+        while (sorted < to && Double.compare(keys[sorted - 1], keys[sorted]) <= 0) {
+            sorted++;
+        }
+
+        if (sorted >= to) {
+            sweep(array, keys, result, from, to);
+        } else {
+            interleave(array, keys, result, from, to);
+        }
+    }
+
+    private static void sweep(@NotNull final double[] array,
+                              @NotNull final double[] keys,
+                              @NotNull final int[] result,
+                              final int from,
+                              final int to) {
+        final int n = array.length;
+        int start = 0;
+        for (int i = from; i < to; i++) {
+            final double key = keys[i];
+            int left = start;
+            int right = start;
+            int step = 1;
+            while (right < n && Double.compare(array[right], key) < 0) {
+                left = right + 1;
+                right = n - left > step ? left + step : n;
+                step = step > n >>> 1 ? n : step << 1;
+            }
+
+            start = lowerBound(array, left, right, key);
+            result[i] = start < n && Double.compare(array[start], key) == 0 ? start : -(start + 1);
+        }
+    }
+
+    private static void interleave(@NotNull final double[] array,
+                                   @NotNull final double[] keys,
+                                   @NotNull final int[] result,
+                                   final int from,
+                                   final int to) {
+        final int n = array.length;
+        final int[] bases = new int[BATCH_LANES];
+        int i = from;
+        if (n > 0) {
+            for (; i + BATCH_LANES <= to; i += BATCH_LANES) {
+                Arrays.fill(bases, 0);
+                for (int length = n; length > 1; ) {
+                    final int half = length >>> 1;
+                    for (int lane = 0; lane < BATCH_LANES; lane++) {
+                        final int base = bases[lane];
+                        final boolean below = Double.compare(array[base + half - 1], keys[i + lane]) < 0;
+                        bases[lane] = below ? base + half : base;
+                    }
+                    length -= half;
+                }
+
+                for (int lane = 0; lane < BATCH_LANES; lane++) {
+                    final double key = keys[i + lane];
+                    final int base = bases[lane];
+                    final int index = Double.compare(array[base], key) < 0 ? base + 1 : base;
+                    result[i + lane] = index < n && Double.compare(array[index], key) == 0 ? index : -(index + 1);
+                }
+            }
+        }
+
+        // Keys that do not fill a whole group of lanes
+        for (; i < to; i++) {
+            result[i] = insertionPoint(array, 0, n, keys[i]);
+        }
+    }
+
+    private static void checkThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+    }
+
+    /**
+     * Runs the batch kernel over keys [0, length), splitting it across the pool unless the
+     * batch is too small or the pool cannot run tasks concurrently.
+     */
+    private static void runBatch(@NotNull final BatchKernel kernel,
+                                 final int length,
+                                 @NotNull final ForkJoinPool pool,
+                                 final int threshold) {
+        if (length <= threshold || pool.getParallelism() <= 1) {
+            kernel.search(0, length);
+            return;
+        }
+
+        pool.invoke(new BatchTask(kernel, 0, length, threshold));
+    }
+
+    /**
+     * Searches a range of keys, writing into a result array shared by all tasks.
+     */
+    @FunctionalInterface
+    private interface BatchKernel {
+        void search(int from, int to);
+    }
+
+    /**
+     * Splits keys [from, to) in halves until at most threshold keys remain. Tasks write to
+     * disjoint parts of the result, so no synchronization is needed beyond the joins.
+     */
+    private static final class BatchTask extends RecursiveAction {
+        private final BatchKernel kernel;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        BatchTask(final BatchKernel kernel, final int from, final int to, final int threshold) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                kernel.search(from, to);
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(kernel, from, mid, threshold), new BatchTask(kernel, mid, to, threshold));
+        }
     }
 }
\ No newline at end of file
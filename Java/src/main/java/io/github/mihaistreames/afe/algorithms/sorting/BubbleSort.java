@@ -54,6 +54,7 @@ public final class BubbleSort {
      * <p>
      * The sort is stable but very inefficient for large datasets. Recommended
      * for educational purposes or very small datasets only.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -65,28 +66,64 @@ public final class BubbleSort {
         Objects.requireNonNull(list, "List cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
 
-        final int n = list.size();
-        if (n <= 1) {
+        if (list.size() <= 1) {
             return;
         }
 
-        for (int i = 0; i < n - 1; i++) {
-            boolean swapped = false;
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
 
-            // Last i elements are already in place
-            for (int j = 0; j < n - i - 1; j++) {
-                // Swap if the element found is greater than the next element
-                if (comparator.compare(list.get(j), list.get(j + 1)) > 0) {
-                    Collections.swap(list, j, j + 1);
-                    swapped = true;
-                }
-            }
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using bubble sort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
 
-            // If no two elements were swapped, then the array is sorted
-            if (!swapped) {
-                break;
-            }
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and bubble sort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
+            return;
         }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -94,8 +131,7 @@ public final class BubbleSort {
     /**
      * Sorts the array in ascending natural order using bubble sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array. Recommended for educational
+     * The array is sorted in place. Recommended for educational
      * purposes or very small datasets only.
      * </p>
      *
@@ -105,15 +141,13 @@ public final class BubbleSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and bubble sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array. Recommended for educational
+     * The array is sorted in place. Recommended for educational
      * purposes or very small datasets only.
      * </p>
      *
@@ -125,7 +159,82 @@ public final class BubbleSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+        bubbleSort(array, 0, array.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using bubble sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and bubble sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        bubbleSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Sorts array[low..high] in place using bubble sort, stopping early once a pass makes no swaps.
+     */
+    private static <T> void bubbleSort(@NotNull final T[] array,
+                                       final int low,
+                                       final int high,
+                                       @NotNull final Comparator<T> comparator) {
+        for (int end = high; end > low; end--) {
+            boolean swapped = false;
+
+            // Elements after end are already in place
+            for (int j = low; j < end; j++) {
+                // Swap if the element found is greater than the next element
+                if (comparator.compare(array[j], array[j + 1]) > 0) {
+                    final T temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    swapped = true;
+                }
+            }
+
+            // If no two elements were swapped, then the range is sorted
+            if (!swapped) {
+                break;
+            }
+        }
     }
 }
\ No newline at end of file
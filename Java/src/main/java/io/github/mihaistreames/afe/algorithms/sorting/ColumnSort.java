@@ -0,0 +1,475 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Multi-column sort over parallel primitive arrays (struct-of-arrays records).
+ * <p>
+ * A sort is described by one or more key columns, each ascending or descending, and any number
+ * of payload columns. Row i is made of the i-th entry of every column. Sorting reorders all
+ * columns together by the composite key, without creating row objects:
+ * </p>
+ * <pre>{@code
+ * ColumnSort.by(tenant)
+ *         .thenByDescending(timestamp)
+ *         .with(value)
+ *         .sort();
+ * }</pre>
+ * <p>
+ * The row order is built with a least-significant-key-first pass per key column: each pass
+ * gathers the column in the current row order as 64-bit keys and refines the order with a
+ * stable {@link RadixSort} pass, so ties on later keys keep the order established by earlier
+ * passes. The final permutation is then applied to every column in place with
+ * {@link Permutations}. Floating-point keys order like {@link Double#compare(double, double)};
+ * a descending key reverses that order, so NaN values come first.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(k·n) for k key columns<br>
+ * <strong>Space Complexity:</strong> O(n) auxiliary space<br>
+ * <strong>Stability:</strong> Stable - rows with equal keys keep their relative order<br>
+ * <strong>In-place:</strong> Columns are reordered in place; the row order needs extra space
+ * </p>
+ * <p>
+ * Instances hold references to the columns and are not thread-safe.
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class ColumnSort {
+
+    private final List<Key> keys = new ArrayList<>();
+    private final List<Object> columns = new ArrayList<>();  // Every column to reorder, keys included
+    private final int length;
+
+    private ColumnSort(final Object column, final int length, final boolean descending) {
+        this.length = length;
+        addKey(column, length, descending);
+    }
+
+    // ========== PUBLIC API - Key Columns ==========
+
+    /**
+     * Starts a sort whose primary key is the given {@code int} column, in ascending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort by(@NotNull final int[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, false);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code int} column, in descending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort byDescending(@NotNull final int[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, true);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code long} column, in ascending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort by(@NotNull final long[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, false);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code long} column, in descending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort byDescending(@NotNull final long[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, true);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code float} column, in ascending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort by(@NotNull final float[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, false);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code float} column, in descending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort byDescending(@NotNull final float[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, true);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code double} column, in ascending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort by(@NotNull final double[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, false);
+    }
+
+    /**
+     * Starts a sort whose primary key is the given {@code double} column, in descending order.
+     *
+     * @param column the primary key column
+     * @return a new column sort
+     * @throws NullPointerException if the column is null
+     */
+    public static ColumnSort byDescending(@NotNull final double[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return new ColumnSort(column, column.length, true);
+    }
+
+    /**
+     * Adds the given {@code int} column as the next key, in ascending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenBy(@NotNull final int[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, false);
+    }
+
+    /**
+     * Adds the given {@code int} column as the next key, in descending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenByDescending(@NotNull final int[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, true);
+    }
+
+    /**
+     * Adds the given {@code long} column as the next key, in ascending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenBy(@NotNull final long[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, false);
+    }
+
+    /**
+     * Adds the given {@code long} column as the next key, in descending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenByDescending(@NotNull final long[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, true);
+    }
+
+    /**
+     * Adds the given {@code float} column as the next key, in ascending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenBy(@NotNull final float[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, false);
+    }
+
+    /**
+     * Adds the given {@code float} column as the next key, in descending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenByDescending(@NotNull final float[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, true);
+    }
+
+    /**
+     * Adds the given {@code double} column as the next key, in ascending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenBy(@NotNull final double[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, false);
+    }
+
+    /**
+     * Adds the given {@code double} column as the next key, in descending order. It only decides
+     * between rows whose previous keys are all equal.
+     *
+     * @param column the key column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort thenByDescending(@NotNull final double[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addKey(column, column.length, true);
+    }
+
+    // ========== PUBLIC API - Payload Columns ==========
+
+    /**
+     * Adds a {@code int} column that is reordered along with the key columns.
+     *
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort with(@NotNull final int[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    /**
+     * Adds a {@code long} column that is reordered along with the key columns.
+     *
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort with(@NotNull final long[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    /**
+     * Adds a {@code short} column that is reordered along with the key columns.
+     *
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort with(@NotNull final short[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    /**
+     * Adds a {@code char} column that is reordered along with the key columns.
+     *
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort with(@NotNull final char[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    /**
+     * Adds a {@code float} column that is reordered along with the key columns.
+     *
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort with(@NotNull final float[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    /**
+     * Adds a {@code double} column that is reordered along with the key columns.
+     *
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public ColumnSort with(@NotNull final double[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    /**
+     * Adds an object column that is reordered along with the key columns.
+     *
+     * @param <T>    the type of elements
+     * @param column the payload column
+     * @return this column sort
+     * @throws NullPointerException     if the column is null
+     * @throws IllegalArgumentException if the column length differs from the other columns
+     */
+    public <T> ColumnSort with(@NotNull final T[] column) {
+        Objects.requireNonNull(column, "Column cannot be null");
+        return addColumn(column, column.length);
+    }
+
+    // ========== PUBLIC API - Sorting ==========
+
+    /**
+     * Returns the permutation that sorts the rows by the composite key, without modifying
+     * any column.
+     * <p>
+     * Row {@code order[i]} is the i-th row in sorted order. Pass the result to
+     * {@link Permutations} to reorder further columns.
+     * </p>
+     *
+     * @return the sorting permutation, a new array with one entry per row
+     */
+    public int[] argsort() {
+        final int[] order = SortingUtils.identity(length);
+        final long[] buffer = new long[length];
+
+        // Least significant key first; each stable pass keeps the order of the previous ones on ties
+        for (int k = keys.size() - 1; k >= 0; k--) {
+            final Key key = keys.get(k);
+            gather(key.column, order, buffer, key.descending);
+            RadixSort.radixSort(buffer, order);
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the rows by the composite key, reordering every key and payload column in place.
+     *
+     * @return the permutation that was applied, so it can be reused for other columns
+     */
+    public int[] sort() {
+        final int[] order = argsort();
+        for (final Object column : columns) {
+            permute(column, order);
+        }
+        return order;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * A key column and its direction.
+     */
+    private static final class Key {
+        private final Object column;
+        private final boolean descending;
+
+        Key(final Object column, final boolean descending) {
+            this.column = column;
+            this.descending = descending;
+        }
+    }
+
+    private ColumnSort addKey(final Object column, final int columnLength, final boolean descending) {
+        addColumn(column, columnLength);
+        keys.add(new Key(column, descending));
+        return this;
+    }
+
+    private ColumnSort addColumn(final Object column, final int columnLength) {
+        if (columnLength != length) {
+            throw new IllegalArgumentException(
+                    "Column length " + columnLength + " does not match row count " + length);
+        }
+
+        // A column registered twice must still be permuted only once
+        for (final Object existing : columns) {
+            if (existing == column) {
+                return this;
+            }
+        }
+        columns.add(column);
+        return this;
+    }
+
+    /**
+     * Copies the key column into keys in the current row order, as {@code long} values whose
+     * signed order is the requested order. Complementing a key reverses its order.
+     */
+    private static void gather(@NotNull final Object column,
+                               @NotNull final int[] order,
+                               @NotNull final long[] keys,
+                               final boolean descending) {
+        final long flip = descending ? -1L : 0L;
+        if (column instanceof int[] values) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = values[order[i]] ^ flip;
+            }
+        } else if (column instanceof long[] values) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = values[order[i]] ^ flip;
+            }
+        } else if (column instanceof float[] values) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = SortingUtils.orderedBits(Float.floatToIntBits(values[order[i]])) ^ flip;
+            }
+        } else {
+            final double[] values = (double[]) column;
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = SortingUtils.orderedBits(Double.doubleToLongBits(values[order[i]])) ^ flip;
+            }
+        }
+    }
+
+    /**
+     * Applies the permutation to a column of any supported type.
+     */
+    private static void permute(@NotNull final Object column, @NotNull final int[] order) {
+        switch (column) {
+            case int[] values -> Permutations.permute(values, order);
+            case long[] values -> Permutations.permute(values, order);
+            case short[] values -> Permutations.permute(values, order);
+            case char[] values -> Permutations.permute(values, order);
+            case float[] values -> Permutations.permute(values, order);
+            case double[] values -> Permutations.permute(values, order);
+            default -> Permutations.permute((Object[]) column, order);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,586 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * External merge sort for files of fixed-width records that do not fit in memory.
+ * <p>
+ * The input is read through a {@link FileChannel} in chunks bounded by the memory limit.
+ * Each chunk is decoded with the {@link RecordCodec}, sorted in memory with {@link MergeSort}
+ * (or {@link QuickSort} when stability is not required) and spilled to a temporary run file.
+ * The runs are then merged k-way: each run is read through memory-mapped windows and
+ * {@link KWayMerge} picks the next record with about log2(k) comparisons. When there
+ * are more runs than the fan-in limit, they are merged in several passes. Input that fits in
+ * one run is sorted in memory and written straight to the output.
+ * </p>
+ * <p>
+ * The sort is stable when the in-memory kernel is: ties between runs are broken in favor of
+ * the earlier run, and runs are always merged in input order.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(n log n) comparisons, O(n log_k(n / m)) I/O for runs of m records<br>
+ * <strong>Space Complexity:</strong> O(m) heap, plus temporary files the size of the input<br>
+ * <strong>Stability:</strong> Stable by default<br>
+ * <strong>In-place:</strong> No - writes to a separate output file
+ * </p>
+ * <pre>{@code
+ * ExternalMergeSort<Trade> sorter = ExternalMergeSort.builder(tradeCodec, byTimestamp)
+ *         .memoryLimit(2L << 30)
+ *         .tempDirectory(Path.of("/scratch"))
+ *         .build();
+ * sorter.sort(Path.of("trades.bin"), Path.of("trades.sorted.bin"));
+ * }</pre>
+ *
+ * @param <T> the type of records
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class ExternalMergeSort<T> {
+
+    /**
+     * Default number of bytes of encoded records held in memory for one run.
+     */
+    public static final long DEFAULT_MEMORY_LIMIT = 64L << 20;
+
+    /**
+     * Default maximum number of runs merged at once.
+     */
+    public static final int DEFAULT_MAX_FAN_IN = 64;
+
+    /**
+     * Size of the buffers used for channel reads and writes.
+     */
+    private static final int IO_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Size of the window each run is mapped in during a merge.
+     */
+    private static final long MAP_WINDOW_SIZE = 1L << 24;
+
+    /**
+     * Largest array length the VM reliably allocates.
+     */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final RecordCodec<T> codec;
+    private final Comparator<T> comparator;
+    private final int recordSize;
+    private final long memoryLimit;
+    private final Path tempDirectory;
+    private final long tempSpaceLimit;
+    private final int maxFanIn;
+    private final boolean stable;
+
+    private ExternalMergeSort(@NotNull final Builder<T> builder) {
+        this.codec = builder.codec;
+        this.comparator = builder.comparator;
+        this.recordSize = builder.recordSize;
+        this.memoryLimit = builder.memoryLimit;
+        this.tempDirectory = builder.tempDirectory;
+        this.tempSpaceLimit = builder.tempSpaceLimit;
+        this.maxFanIn = builder.maxFanIn;
+        this.stable = builder.stable;
+    }
+
+    // ========== PUBLIC API ==========
+
+    /**
+     * Creates a builder for an external sort of records in the given format and order.
+     *
+     * @param <T>        the type of records
+     * @param codec      the codec converting between records and bytes
+     * @param comparator the comparator to determine record order
+     * @return a new builder with default limits
+     * @throws NullPointerException     if the codec or comparator is null
+     * @throws IllegalArgumentException if the codec's record size is not positive
+     */
+    public static <T> Builder<T> builder(@NotNull final RecordCodec<T> codec, @NotNull final Comparator<T> comparator) {
+        return new Builder<>(codec, comparator);
+    }
+
+    /**
+     * Sorts the records of the input file into the output file.
+     * <p>
+     * The output is created or truncated. The input may be the output file itself, since
+     * the output is only opened once the input has been read completely. Temporary run files
+     * are deleted before this method returns, whether it succeeds or fails.
+     * </p>
+     *
+     * @param input  the file to sort
+     * @param output the file to write the sorted records to
+     * @throws NullPointerException if the input or output path is null
+     * @throws IOException          if an I/O error occurs, the input size is not a multiple of
+     *                              the record size, or the temporary space limit would be exceeded
+     */
+    public void sort(@NotNull final Path input, @NotNull final Path output) throws IOException {
+        Objects.requireNonNull(input, "Input cannot be null");
+        Objects.requireNonNull(output, "Output cannot be null");
+
+        try (Session session = new Session()) {
+            final T[] records;
+            final int count;
+            List<Run> runs = List.of();
+
+            try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+                final long size = in.size();
+                if (size % recordSize != 0) {
+                    throw new IOException("Input size " + size + " is not a multiple of the record size " + recordSize);
+                }
+
+                final long total = size / recordSize;
+                final int capacity = (int) Math.min(total, Math.min(memoryLimit / recordSize, MAX_ARRAY_LENGTH));
+                records = SortingUtils.newBuffer(capacity);
+                final ByteBuffer buffer = newIoBuffer();
+
+                if (total <= capacity) {
+                    // Everything fits in memory; skip the temporary files entirely
+                    count = read(in, buffer, records);
+                    sortRun(records, count);
+                } else {
+                    if (size > tempSpaceLimit) {
+                        throw new IOException("Input of " + size + " bytes exceeds the temporary space limit of "
+                                + tempSpaceLimit + " bytes");
+                    }
+                    count = 0;
+                    runs = spillRuns(in, buffer, records, session);
+                }
+            }
+
+            if (runs.isEmpty()) {
+                try (FileChannel out = openOutput(output)) {
+                    write(out, newIoBuffer(), records, count);
+                }
+                return;
+            }
+
+            // Merge in passes until a single pass can write the output
+            while (runs.size() > maxFanIn) {
+                final List<Run> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += maxFanIn) {
+                    final List<Run> group = runs.subList(from, Math.min(from + maxFanIn, runs.size()));
+                    merged.add(group.size() == 1 ? group.getFirst() : mergeToRun(group, session));
+                }
+                runs = merged;
+            }
+
+            try (FileChannel out = openOutput(output)) {
+                merge(runs, out);
+            }
+        }
+    }
+
+    // ========== BUILDER ==========
+
+    /**
+     * Builder for {@link ExternalMergeSort} instances.
+     *
+     * @param <T> the type of records
+     */
+    public static final class Builder<T> {
+        private final RecordCodec<T> codec;
+        private final Comparator<T> comparator;
+        private final int recordSize;
+        private long memoryLimit = DEFAULT_MEMORY_LIMIT;
+        private Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+        private long tempSpaceLimit = Long.MAX_VALUE;
+        private int maxFanIn = DEFAULT_MAX_FAN_IN;
+        private boolean stable = true;
+
+        private Builder(@NotNull final RecordCodec<T> codec, @NotNull final Comparator<T> comparator) {
+            this.codec = Objects.requireNonNull(codec, "Codec cannot be null");
+            this.comparator = Objects.requireNonNull(comparator, "Comparator cannot be null");
+            this.recordSize = codec.recordSize();
+            if (recordSize <= 0) {
+                throw new IllegalArgumentException("Record size must be positive: " + recordSize);
+            }
+        }
+
+        /**
+         * Sets the number of bytes of encoded records held in memory at once, which bounds
+         * the length of each sorted run. Decoded objects and the sort buffer come on top.
+         *
+         * @param bytes the memory limit, at least one record
+         * @return this builder
+         * @throws IllegalArgumentException if the limit is smaller than one record
+         */
+        public Builder<T> memoryLimit(final long bytes) {
+            if (bytes < recordSize) {
+                throw new IllegalArgumentException("Memory limit must hold at least one record: " + bytes);
+            }
+            this.memoryLimit = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the directory temporary run files are created in. Defaults to
+         * {@code java.io.tmpdir}.
+         *
+         * @param directory the temporary directory
+         * @return this builder
+         * @throws NullPointerException if the directory is null
+         */
+        public Builder<T> tempDirectory(@NotNull final Path directory) {
+            this.tempDirectory = Objects.requireNonNull(directory, "Temporary directory cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes of temporary files in use at any time. Unlimited
+         * by default.
+         *
+         * @param bytes the temporary space limit
+         * @return this builder
+         * @throws IllegalArgumentException if the limit is negative
+         */
+        public Builder<T> tempSpaceLimit(final long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("Temporary space limit cannot be negative: " + bytes);
+            }
+            this.tempSpaceLimit = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of runs merged at once. More runs are merged in several passes.
+         *
+         * @param fanIn the merge fan-in, at least 2
+         * @return this builder
+         * @throws IllegalArgumentException if the fan-in is less than 2
+         */
+        public Builder<T> maxFanIn(final int fanIn) {
+            if (fanIn < 2) {
+                throw new IllegalArgumentException("Fan-in must be at least 2: " + fanIn);
+            }
+            this.maxFanIn = fanIn;
+            return this;
+        }
+
+        /**
+         * Chooses between a stable sort (runs sorted with {@link MergeSort}, the default) and
+         * an unstable one (runs sorted with {@link QuickSort}).
+         *
+         * @param stable whether records with equal keys must keep their input order
+         * @return this builder
+         */
+        public Builder<T> stable(final boolean stable) {
+            this.stable = stable;
+            return this;
+        }
+
+        /**
+         * Builds the external sort.
+         *
+         * @return a new external sort with this builder's settings
+         */
+        public ExternalMergeSort<T> build() {
+            return new ExternalMergeSort<>(this);
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Runs ==========
+
+    /**
+     * A sorted temporary file of records.
+     */
+    private static final class Run {
+        private final Path path;
+        private final long records;
+
+        Run(final Path path, final long records) {
+            this.path = path;
+            this.records = records;
+        }
+    }
+
+    /**
+     * Tracks the temporary files of one sort, enforcing the space limit and deleting any
+     * files that are left over when the sort ends.
+     */
+    private final class Session implements Closeable {
+        private final Set<Path> files = new LinkedHashSet<>();
+        private long bytesInUse;
+
+        Run newRun(final long records) throws IOException {
+            final long bytes = records * recordSize;
+            if (bytesInUse + bytes > tempSpaceLimit) {
+                throw new IOException("Temporary space limit of " + tempSpaceLimit + " bytes exceeded");
+            }
+
+            final Path path = Files.createTempFile(tempDirectory, "afe-run-", ".tmp");
+            files.add(path);
+            bytesInUse += bytes;
+            return new Run(path, records);
+        }
+
+        void delete(@NotNull final Run run) {
+            if (files.remove(run.path)) {
+                bytesInUse -= run.records * recordSize;
+                deleteQuietly(run.path);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (final Path path : files) {
+                deleteQuietly(path);
+            }
+            files.clear();
+            bytesInUse = 0;
+        }
+
+        private void deleteQuietly(@NotNull final Path path) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                // A mapping that has not been released yet can block deletion on some platforms
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Reads the input in chunks of at most records.length records, sorts each chunk and
+     * writes it to a new run file.
+     */
+    private List<Run> spillRuns(@NotNull final FileChannel in,
+                                @NotNull final ByteBuffer buffer,
+                                @NotNull final T[] records,
+                                @NotNull final Session session) throws IOException {
+        final List<Run> runs = new ArrayList<>();
+        final ByteBuffer outBuffer = newIoBuffer();
+
+        int count;
+        while ((count = read(in, buffer, records)) > 0) {
+            sortRun(records, count);
+
+            final Run run = session.newRun(count);
+            try (FileChannel out = FileChannel.open(run.path, StandardOpenOption.WRITE)) {
+                write(out, outBuffer, records, count);
+            }
+            runs.add(run);
+        }
+
+        Arrays.fill(records, null);
+        return runs;
+    }
+
+    private void sortRun(@NotNull final T[] records, final int count) {
+        if (stable) {
+            MergeSort.sort(records, 0, count, comparator);
+        } else {
+            QuickSort.sort(records, 0, count, comparator);
+        }
+    }
+
+    /**
+     * Merges a group of runs into a new run and deletes the inputs.
+     */
+    private Run mergeToRun(@NotNull final List<Run> group, @NotNull final Session session) throws IOException {
+        long records = 0;
+        for (final Run run : group) {
+            records += run.records;
+        }
+
+        final Run merged = session.newRun(records);
+        try (FileChannel out = FileChannel.open(merged.path, StandardOpenOption.WRITE)) {
+            merge(group, out);
+        }
+
+        for (final Run run : group) {
+            session.delete(run);
+        }
+        return merged;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Merging ==========
+
+    /**
+     * Merges the runs into the output channel with {@link KWayMerge}.
+     */
+    private void merge(@NotNull final List<Run> runs, @NotNull final FileChannel out) throws IOException {
+        final List<RunReader> readers = new ArrayList<>(runs.size());
+        try {
+            for (final Run run : runs) {
+                readers.add(new RunReader(run));
+            }
+
+            final Iterator<T> merged = KWayMerge.mergeIterators(readers, comparator);
+            final ByteBuffer buffer = newIoBuffer();
+            buffer.clear();
+            while (merged.hasNext()) {
+                encode(out, buffer, merged.next());
+            }
+            flush(out, buffer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (final RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Sequential reader over a run file through memory-mapped windows.
+     * <p>
+     * Windows hold a whole number of records, so a record never straddles two mappings.
+     * Mapping failures are thrown as {@link UncheckedIOException} to fit the {@link Iterator}
+     * contract and unwrapped again by {@link #merge(List, FileChannel)}.
+     * </p>
+     */
+    private final class RunReader implements Iterator<T>, Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private final long windowSize;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        RunReader(@NotNull final Run run) throws IOException {
+            this.channel = FileChannel.open(run.path, StandardOpenOption.READ);
+            this.size = run.records * recordSize;
+            this.windowSize = Math.max(1, MAP_WINDOW_SIZE / recordSize) * recordSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return windowStart + (window == null ? 0 : window.position()) < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (window == null || !window.hasRemaining()) {
+                if (window != null) {
+                    windowStart += window.capacity();
+                }
+                final long length = Math.min(windowSize, size - windowStart);
+                try {
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return decode(window);
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Record I/O ==========
+
+    private ByteBuffer newIoBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(1, IO_BUFFER_SIZE / recordSize) * recordSize);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static FileChannel openOutput(@NotNull final Path output) throws IOException {
+        return FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Decodes up to records.length records from the channel.
+     * <p>
+     * The buffer is kept in read mode between calls, so bytes left over from one call are
+     * used by the next.
+     * </p>
+     *
+     * @return the number of records decoded, 0 at the end of the input
+     */
+    private int read(@NotNull final FileChannel in,
+                     @NotNull final ByteBuffer buffer,
+                     @NotNull final T[] records) throws IOException {
+        int count = 0;
+        while (count < records.length) {
+            if (buffer.remaining() < recordSize) {
+                buffer.compact();
+                final int read = in.read(buffer);
+                buffer.flip();
+                if (read < 0) {
+                    break;
+                }
+                continue;
+            }
+            records[count++] = decode(buffer);
+        }
+        return count;
+    }
+
+    /**
+     * Encodes the first count records into the channel.
+     */
+    private void write(@NotNull final FileChannel out,
+                       @NotNull final ByteBuffer buffer,
+                       @NotNull final T[] records,
+                       final int count) throws IOException {
+        buffer.clear();
+        for (int i = 0; i < count; i++) {
+            encode(out, buffer, records[i]);
+        }
+        flush(out, buffer);
+    }
+
+    /**
+     * Decodes the record at the buffer's position, limiting the codec to that record.
+     */
+    private T decode(@NotNull final ByteBuffer buffer) {
+        final int start = buffer.position();
+        final int limit = buffer.limit();
+        buffer.limit(start + recordSize);
+        final T record = codec.decode(buffer);
+        buffer.limit(limit).position(start + recordSize);
+        return record;
+    }
+
+    /**
+     * Encodes the record into the write-mode buffer, flushing it to the channel when full.
+     */
+    private void encode(@NotNull final FileChannel out,
+                        @NotNull final ByteBuffer buffer,
+                        final T record) throws IOException {
+        if (buffer.remaining() < recordSize) {
+            flush(out, buffer);
+        }
+
+        final int start = buffer.position();
+        final int limit = buffer.limit();
+        buffer.limit(start + recordSize);
+        codec.encode(record, buffer);
+        if (buffer.position() != start + recordSize) {
+            throw new IllegalStateException("Codec wrote " + (buffer.position() - start)
+                    + " bytes, expected " + recordSize);
+        }
+        buffer.limit(limit);
+    }
+
+    /**
+     * Writes the buffer's contents to the channel and clears it for writing.
+     */
+    private static void flush(@NotNull final FileChannel out, @NotNull final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
\ No newline at end of file
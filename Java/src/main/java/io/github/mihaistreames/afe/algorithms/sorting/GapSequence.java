@@ -0,0 +1,193 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A sequence of gaps for {@link ShellSort}.
+ * <p>
+ * Shell sort runs a gapped insertion sort for each gap of the sequence, from the largest gap
+ * smaller than the input length down to 1. The sequence decides both the number of passes
+ * and how much order each pass leaves for the next, and so most of the running time.
+ * The built-in sequences are precomputed once into tables that cover every array length;
+ * custom sequences can be created with {@link #of(int...)}.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class GapSequence {
+
+    /**
+     * Ciura's empirically optimized gaps 1, 4, 10, 23, 57, 132, 301, 701, 1750, extended by
+     * a factor of 2.25. The fewest comparisons of the built-in sequences on random input,
+     * and the default for {@link ShellSort} on lists and object arrays.
+     */
+    public static final GapSequence CIURA = new GapSequence("Ciura", ciura());
+
+    /**
+     * Tokuda's gaps ceil((9^k - 4^k) / (5 * 4^(k-1))): 1, 4, 9, 20, 46, 103, 233, ...
+     * Close to {@link #CIURA} in practice.
+     */
+    public static final GapSequence TOKUDA = new GapSequence("Tokuda", tokuda());
+
+    /**
+     * Sedgewick's gaps 1 and 4^k + 3 * 2^(k-1) + 1: 1, 8, 23, 77, 281, 1073, ...
+     * O(n^(4/3)) in the worst case. About 20% more comparisons than {@link #CIURA} but a third
+     * fewer passes, which makes it the fastest built-in sequence on primitive arrays and the
+     * default for {@link ShellSort} there.
+     */
+    public static final GapSequence SEDGEWICK = new GapSequence("Sedgewick", sedgewick());
+
+    /**
+     * Pratt's gaps 2^p * 3^q in ascending order: 1, 2, 3, 4, 6, 8, 9, 12, ...
+     * O(n log²n) in the worst case, the best known bound, but with many more passes than the
+     * other sequences, so it is usually slower in practice.
+     */
+    public static final GapSequence PRATT = new GapSequence("Pratt", pratt());
+
+    /**
+     * Knuth's gaps (3^k - 1) / 2: 1, 4, 13, 40, 121, ... O(n^1.5) in the worst case.
+     */
+    public static final GapSequence KNUTH = new GapSequence("Knuth", knuth());
+
+    private final String name;
+    private final int[] gaps;  // Ascending, starting at 1
+
+    private GapSequence(@NotNull final String name, @NotNull final int[] gaps) {
+        this.name = name;
+        this.gaps = gaps;
+    }
+
+    // ========== PUBLIC API ==========
+
+    /**
+     * Creates a custom gap sequence.
+     *
+     * @param gaps the gaps in ascending order, starting with 1
+     * @return a gap sequence using the given gaps
+     * @throws NullPointerException     if gaps is null
+     * @throws IllegalArgumentException if gaps is empty, does not start with 1, or is not
+     *                                  strictly increasing
+     */
+    public static GapSequence of(@NotNull final int... gaps) {
+        Objects.requireNonNull(gaps, "Gaps cannot be null");
+        if (gaps.length == 0 || gaps[0] != 1) {
+            throw new IllegalArgumentException("Gap sequence must start with 1: " + Arrays.toString(gaps));
+        }
+        for (int i = 1; i < gaps.length; i++) {
+            if (gaps[i] <= gaps[i - 1]) {
+                throw new IllegalArgumentException("Gaps must be strictly increasing: " + Arrays.toString(gaps));
+            }
+        }
+        return new GapSequence("Custom", gaps.clone());
+    }
+
+    /**
+     * Returns the gaps used to sort an input of the given length, largest first.
+     *
+     * @param length the input length
+     * @return a new array of the gaps smaller than length, in the order they are applied
+     */
+    public int[] gapsFor(final int length) {
+        final int[] result = new int[start(length) + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = gaps[result.length - 1 - i];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // ========== INTERNAL API ==========
+
+    /**
+     * Returns the ascending gap table. Callers must not modify it.
+     */
+    int[] table() {
+        return gaps;
+    }
+
+    /**
+     * Returns the index of the largest gap smaller than the length, or -1 if there is none.
+     */
+    int start(final int length) {
+        int index = gaps.length - 1;
+        while (index >= 0 && gaps[index] >= length) {
+            index--;
+        }
+        return index;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static int[] ciura() {
+        final int[] known = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+        final int[] gaps = Arrays.copyOf(known, 64);
+        int count = known.length;
+        long next = (long) (gaps[count - 1] * 2.25);
+        while (next <= Integer.MAX_VALUE) {
+            gaps[count++] = (int) next;
+            next = (long) (next * 2.25);
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    private static int[] tokuda() {
+        final int[] gaps = new int[64];
+        int count = 0;
+        for (int k = 1; ; k++) {
+            final double gap = Math.ceil((9.0 * Math.pow(2.25, k - 1) - 4.0) / 5.0);
+            if (gap > Integer.MAX_VALUE) {
+                break;
+            }
+            gaps[count++] = (int) gap;
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    private static int[] sedgewick() {
+        final int[] gaps = new int[32];
+        gaps[0] = 1;
+        int count = 1;
+        for (int k = 1; ; k++) {
+            final long gap = (1L << (2 * k)) + 3L * (1L << (k - 1)) + 1;
+            if (gap > Integer.MAX_VALUE) {
+                break;
+            }
+            gaps[count++] = (int) gap;
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+
+    private static int[] pratt() {
+        final int[] gaps = new int[1024];
+        int count = 0;
+        for (long powerOfTwo = 1; powerOfTwo <= Integer.MAX_VALUE; powerOfTwo *= 2) {
+            for (long gap = powerOfTwo; gap <= Integer.MAX_VALUE; gap *= 3) {
+                gaps[count++] = (int) gap;
+            }
+        }
+        final int[] sorted = Arrays.copyOf(gaps, count);
+        InsertionSort.sort(sorted);
+        return sorted;
+    }
+
+    private static int[] knuth() {
+        final int[] gaps = new int[32];
+        int count = 0;
+        for (long gap = 1; gap <= Integer.MAX_VALUE; gap = 3 * gap + 1) {
+            gaps[count++] = (int) gap;
+        }
+        return Arrays.copyOf(gaps, count);
+    }
+}
\ No newline at end of file
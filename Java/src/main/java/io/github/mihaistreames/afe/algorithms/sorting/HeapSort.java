@@ -12,6 +12,11 @@ import java.util.*;
  * unsorted region by extracting the largest element and moving it to the sorted region.
  * </p>
  * <p>
+ * Extraction uses Floyd's bottom-up variant, which needs about n log2(n) comparisons instead
+ * of 2n log2(n), and every sift moves elements into a hole rather than swapping them.
+ * {@code sortWithArity} overloads sort on a d-ary heap instead of a binary one.
+ * </p>
+ * <p>
  * <strong>Time Complexity:</strong> O(n log n) in all cases<br>
  * <strong>Space Complexity:</strong> O(1) additional space<br>
  * <strong>Stability:</strong> Not stable - may change relative order of equal elements<br>
@@ -50,6 +55,7 @@ public final class HeapSort {
      * Sorts the list using the provided comparator and heap sort.
      * <p>
      * The sort is not stable but runs in guaranteed O(n log n) time.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -61,24 +67,64 @@ public final class HeapSort {
         Objects.requireNonNull(list, "List cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
 
-        final int n = list.size();
-        if (n <= 1) {
+        if (list.size() <= 1) {
             return;
         }
 
-        // Build max heap
-        for (int i = n / 2 - 1; i >= 0; i--) {
-            heapify(list, n, i, comparator);
-        }
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
 
-        // Extract elements from heap one by one
-        for (int i = n - 1; i > 0; i--) {
-            // Move current root to end
-            Collections.swap(list, 0, i);
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using heap sort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and heap sort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
 
-            // Call heapify on the reduced heap
-            heapify(list, i, 0, comparator);
+        if (toIndex - fromIndex <= 1) {
+            return;
         }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -86,8 +132,7 @@ public final class HeapSort {
     /**
      * Sorts the array in ascending natural order using heap sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>   the type of elements, must extend {@link Comparable}
@@ -96,15 +141,13 @@ public final class HeapSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and heap sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>        the type of elements
@@ -115,42 +158,1451 @@ public final class HeapSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+        heapSort(array, 0, array.length - 1, comparator);
     }
 
-    // ========== PRIVATE IMPLEMENTATION ==========
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using heap sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and heap sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        heapSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using heap sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        heapSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using heap sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        heapSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using heap sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        heapSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using heap sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        heapSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using heap sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1, HeapSort::heapSort);
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using heap sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1, HeapSort::heapSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using heap sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        heapSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using heap sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        heapSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code short} values into ascending
+     * numerical order using heap sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final short[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        heapSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code char} values into ascending
+     * numerical order using heap sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final char[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        heapSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using heap sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, HeapSort::heapSort);
+    }
 
     /**
-     * Heapifies a subtree rooted with node i which is an index in the list.
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using heap sort.
      * <p>
-     * Assumes that the subtrees rooted at left and right children are already heaps.
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
      * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, HeapSort::heapSort);
+    }
+
+    // ========== PUBLIC API - D-ary Heap Operations ==========
+
+    /**
+     * Sorts the list in ascending natural order using heap sort on a heap of the given arity.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param list  the list to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the list is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static <T extends Comparable<T>> void sortWithArity(@NotNull final List<T> list, final int arity) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sortWithArity(list, arity, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and heap sort on a heap of the given arity.
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param arity      the number of children per heap node, at least 2
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException     if the list or comparator is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
      */
-    private static <T> void heapify(@NotNull final List<T> list,
-                                    final int n,
-                                    final int i,
-                                    @NotNull final Comparator<T> comparator) {
-        int largest = i;        // Initialize largest as root
-        int left = 2 * i + 1;   // Left child
-        int right = 2 * i + 2;  // Right child
+    public static <T> void sortWithArity(@NotNull final List<T> list,
+                                         final int arity,
+                                         @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkArity(arity);
 
-        // If left child is larger than root
-        if (left < n && comparator.compare(list.get(left), list.get(largest)) > 0) {
-            largest = left;
+        if (list.size() <= 1) {
+            return;
         }
 
-        // If right child is larger than largest so far
-        if (right < n && comparator.compare(list.get(right), list.get(largest)) > 0) {
-            largest = right;
+        SortingUtils.sortThroughArray(list, array -> heapSort(array, 0, array.length - 1, arity, comparator));
+    }
+
+    /**
+     * Sorts the array in ascending natural order using heap sort on a heap of the given arity.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static <T extends Comparable<T>> void sortWithArity(@NotNull final T[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sortWithArity(array, arity, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and heap sort on a heap of the given arity.
+     * <p>
+     * A d-ary heap is about log2(d) times shallower than a binary one, and the d children of
+     * a node are adjacent in memory, so each level of a sift touches one or two cache lines
+     * instead of one per binary level. Finding the largest child costs d - 1 comparisons, so
+     * arities of 4 or 8 only pay off when memory stalls dominate comparisons, for example on
+     * arrays much larger than the cache with cheap comparators; measure before switching.
+     * An arity of 2 is the same as {@link #sort(Object[], Comparator)}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param arity      the number of children per heap node, at least 2
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException     if the array or comparator is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     */
+    public static <T> void sortWithArity(@NotNull final T[] array,
+                                         final int arity,
+                                         @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkArity(arity);
+        heapSort(array, 0, array.length - 1, arity, comparator);
+    }
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using heap sort on
+     * a heap of the given arity.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static void sortWithArity(@NotNull final int[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkArity(arity);
+        heapSort(array, 0, array.length - 1, arity);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using heap sort on
+     * a heap of the given arity.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static void sortWithArity(@NotNull final long[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkArity(arity);
+        heapSort(array, 0, array.length - 1, arity);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using heap sort on
+     * a heap of the given arity.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static void sortWithArity(@NotNull final short[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkArity(arity);
+        heapSort(array, 0, array.length - 1, arity);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using heap sort on
+     * a heap of the given arity.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static void sortWithArity(@NotNull final char[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkArity(arity);
+        heapSort(array, 0, array.length - 1, arity);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using heap sort on
+     * a heap of the given arity.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static void sortWithArity(@NotNull final float[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkArity(arity);
+        SortingUtils.sortFloats(array, 0, array.length - 1, (values, low, high) -> heapSort(values, low, high, arity));
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using heap sort on
+     * a heap of the given arity.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @param arity the number of children per heap node, at least 2
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if arity &lt; 2
+     * @see #sortWithArity(Object[], int, Comparator)
+     */
+    public static void sortWithArity(@NotNull final double[] array, final int arity) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkArity(arity);
+        SortingUtils.sortDoubles(array, 0, array.length - 1, (values, low, high) -> heapSort(values, low, high, arity));
+    }
+
+    // ========== INTERNAL API - Array Kernels ==========
+
+    /**
+     * Sorts array[low..high] in place using bottom-up heap sort.
+     * <p>
+     * Also used by other algorithms in this package when a guaranteed O(n log n) bound is needed.
+     * The heap is laid out over the range with {@code low} as its root.
+     * </p>
+     * <p>
+     * Each extraction moves the root to the end and takes the displaced last element out of
+     * the heap. Instead of sifting that element down from the root, which costs two
+     * comparisons per level, the hole left at the root is moved down along the larger
+     * children to a leaf with one comparison per level, and the element is then sifted up
+     * from there. It came from the bottom of the heap, so it rarely rises more than a level
+     * or two (Floyd's heuristic). Elements are moved into holes instead of being swapped.
+     * </p>
+     */
+    static <T> void heapSort(@NotNull final T[] array,
+                             final int low,
+                             final int high,
+                             @NotNull final Comparator<T> comparator) {
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
         }
 
-        // If largest is not root
-        if (largest != i) {
-            Collections.swap(list, i, largest);
+        // Build max heap
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i, comparator);
+        }
+
+        // Extract elements from heap one by one
+        for (int end = n - 1; end > 0; end--) {
+            final T element = array[low + end];
+            array[low + end] = array[low];
+
+            // Move the hole at the root down to a leaf along the larger children
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && comparator.compare(array[low + child + 1], array[low + child]) > 0) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            // Sift the displaced element up from the leaf
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (comparator.compare(element, array[low + parent]) <= 0) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] in place using bottom-up heap sort on a heap where every node
+     * has up to {@code arity} children.
+     */
+    static <T> void heapSort(@NotNull final T[] array,
+                             final int low,
+                             final int high,
+                             final int arity,
+                             @NotNull final Comparator<T> comparator) {
+        if (arity == 2) {
+            heapSort(array, low, high, comparator);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity, comparator);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final T element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (comparator.compare(array[low + child], array[low + largest]) > 0) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (comparator.compare(element, array[low + parent]) <= 0) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code int} values in place using bottom-up heap sort.
+     */
+    static void heapSort(@NotNull final int[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final int element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && array[low + child + 1] > array[low + child]) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code int} values in place using bottom-up heap sort on a
+     * heap where every node has up to {@code arity} children.
+     */
+    static void heapSort(@NotNull final int[] array, final int low, final int high, final int arity) {
+        if (arity == 2) {
+            heapSort(array, low, high);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final int element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (array[low + child] > array[low + largest]) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values in place using bottom-up heap sort.
+     */
+    static void heapSort(@NotNull final long[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final long element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && array[low + child + 1] > array[low + child]) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values in place using bottom-up heap sort on a
+     * heap where every node has up to {@code arity} children.
+     */
+    static void heapSort(@NotNull final long[] array, final int low, final int high, final int arity) {
+        if (arity == 2) {
+            heapSort(array, low, high);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final long element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (array[low + child] > array[low + largest]) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values in place using bottom-up heap sort.
+     */
+    static void heapSort(@NotNull final short[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final short element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && array[low + child + 1] > array[low + child]) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values in place using bottom-up heap sort on a
+     * heap where every node has up to {@code arity} children.
+     */
+    static void heapSort(@NotNull final short[] array, final int low, final int high, final int arity) {
+        if (arity == 2) {
+            heapSort(array, low, high);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final short element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (array[low + child] > array[low + largest]) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values in place using bottom-up heap sort.
+     */
+    static void heapSort(@NotNull final char[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final char element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && array[low + child + 1] > array[low + child]) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values in place using bottom-up heap sort on a
+     * heap where every node has up to {@code arity} children.
+     */
+    static void heapSort(@NotNull final char[] array, final int low, final int high, final int arity) {
+        if (arity == 2) {
+            heapSort(array, low, high);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final char element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (array[low + child] > array[low + largest]) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values in place using bottom-up heap sort.
+     */
+    static void heapSort(@NotNull final float[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final float element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && array[low + child + 1] > array[low + child]) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values in place using bottom-up heap sort on a
+     * heap where every node has up to {@code arity} children.
+     */
+    static void heapSort(@NotNull final float[] array, final int low, final int high, final int arity) {
+        if (arity == 2) {
+            heapSort(array, low, high);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final float element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (array[low + child] > array[low + largest]) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values in place using bottom-up heap sort.
+     */
+    static void heapSort(@NotNull final double[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(array, low, n, i);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final double element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = end >>> 1;
+            while (hole < parents) {
+                int child = 2 * hole + 1;
+                if (child + 1 < end && array[low + child + 1] > array[low + child]) {
+                    child++;
+                }
+                array[low + hole] = array[low + child];
+                hole = child;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) >>> 1;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values in place using bottom-up heap sort on a
+     * heap where every node has up to {@code arity} children.
+     */
+    static void heapSort(@NotNull final double[] array, final int low, final int high, final int arity) {
+        if (arity == 2) {
+            heapSort(array, low, high);
+            return;
+        }
+
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        for (int i = parents(n, arity) - 1; i >= 0; i--) {
+            siftDown(array, low, n, i, arity);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            final double element = array[low + end];
+            array[low + end] = array[low];
+
+            int hole = 0;
+            final int parents = parents(end, arity);
+            while (hole < parents) {
+                final int first = arity * hole + 1;
+                final int last = end - first <= arity ? end : first + arity;
+                int largest = first;
+                for (int child = first + 1; child < last; child++) {
+                    if (array[low + child] > array[low + largest]) {
+                        largest = child;
+                    }
+                }
+                array[low + hole] = array[low + largest];
+                hole = largest;
+            }
+
+            while (hole > 0) {
+                final int parent = (hole - 1) / arity;
+                if (element <= array[low + parent]) {
+                    break;
+                }
+                array[low + hole] = array[low + parent];
+                hole = parent;
+            }
+            array[low + hole] = element;
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    private static void checkArity(final int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+    }
+
+    /**
+     * Returns the number of nodes with at least one child in a heap of n nodes, without
+     * overflowing for n close to {@link Integer#MAX_VALUE}.
+     */
+    private static int parents(final int n, final int arity) {
+        return n < 2 ? 0 : (n - 2) / arity + 1;
+    }
+
+    /**
+     * Heapifies the subtree rooted at heap node i, where the max-heap occupies
+     * array[offset..offset + n - 1]. Also used by {@link Selection} and {@link TopK}.
+     * <p>
+     * The element at node i is held aside while larger children move up into the hole,
+     * so each level costs one move instead of a three-move swap.
+     * </p>
+     */
+    static <T> void heapify(@NotNull final T[] array,
+                            final int offset,
+                            final int n,
+                            int i,
+                            @NotNull final Comparator<T> comparator) {
+        final T element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && comparator.compare(array[offset + child + 1], array[offset + child]) > 0) {
+                child++;
+            }
+
+            // Stop once the element is at least as large as both children
+            if (comparator.compare(array[offset + child], element) <= 0) {
+                break;
+            }
+
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
+
+    /**
+     * Sifts heap node i down within the heap of the given arity occupying array[offset..offset + n - 1].
+     */
+    private static <T> void siftDown(@NotNull final T[] array,
+                                     final int offset,
+                                     final int n,
+                                     int i,
+                                     final int arity,
+                                     @NotNull final Comparator<T> comparator) {
+        final T element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (comparator.compare(array[offset + child], array[offset + largest]) > 0) {
+                    largest = child;
+                }
+            }
+
+            if (comparator.compare(array[offset + largest], element) <= 0) {
+                break;
+            }
+
+            array[offset + i] = array[offset + largest];
+            i = largest;
+        }
+        array[offset + i] = element;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Primitive Kernels ==========
+
+    /**
+     * Sifts heap node i down within the {@code int} heap occupying array[offset..offset + n - 1].
+     */
+    private static void heapify(@NotNull final int[] array, final int offset, final int n, int i) {
+        final int element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && array[offset + child + 1] > array[offset + child]) {
+                child++;
+            }
+            if (array[offset + child] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
+
+    private static void siftDown(@NotNull final int[] array, final int offset, final int n, int i, final int arity) {
+        final int element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (array[offset + child] > array[offset + largest]) {
+                    largest = child;
+                }
+            }
+            if (array[offset + largest] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + largest];
+            i = largest;
+        }
+        array[offset + i] = element;
+    }
+
+    /**
+     * Sifts heap node i down within the {@code long} heap occupying array[offset..offset + n - 1].
+     * Also used by {@link TopK}.
+     */
+    static void heapify(@NotNull final long[] array, final int offset, final int n, int i) {
+        final long element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && array[offset + child + 1] > array[offset + child]) {
+                child++;
+            }
+            if (array[offset + child] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
+
+    private static void siftDown(@NotNull final long[] array, final int offset, final int n, int i, final int arity) {
+        final long element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (array[offset + child] > array[offset + largest]) {
+                    largest = child;
+                }
+            }
+            if (array[offset + largest] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + largest];
+            i = largest;
+        }
+        array[offset + i] = element;
+    }
+
+    /**
+     * Sifts heap node i down within the {@code short} heap occupying array[offset..offset + n - 1].
+     */
+    private static void heapify(@NotNull final short[] array, final int offset, final int n, int i) {
+        final short element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && array[offset + child + 1] > array[offset + child]) {
+                child++;
+            }
+            if (array[offset + child] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
+
+    private static void siftDown(@NotNull final short[] array, final int offset, final int n, int i, final int arity) {
+        final short element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (array[offset + child] > array[offset + largest]) {
+                    largest = child;
+                }
+            }
+            if (array[offset + largest] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + largest];
+            i = largest;
+        }
+        array[offset + i] = element;
+    }
+
+    /**
+     * Sifts heap node i down within the {@code char} heap occupying array[offset..offset + n - 1].
+     */
+    private static void heapify(@NotNull final char[] array, final int offset, final int n, int i) {
+        final char element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && array[offset + child + 1] > array[offset + child]) {
+                child++;
+            }
+            if (array[offset + child] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
+
+    private static void siftDown(@NotNull final char[] array, final int offset, final int n, int i, final int arity) {
+        final char element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (array[offset + child] > array[offset + largest]) {
+                    largest = child;
+                }
+            }
+            if (array[offset + largest] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + largest];
+            i = largest;
+        }
+        array[offset + i] = element;
+    }
+
+    /**
+     * Sifts heap node i down within the {@code float} heap occupying array[offset..offset + n - 1].
+     */
+    private static void heapify(@NotNull final float[] array, final int offset, final int n, int i) {
+        final float element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && array[offset + child + 1] > array[offset + child]) {
+                child++;
+            }
+            if (array[offset + child] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
+
+    private static void siftDown(@NotNull final float[] array, final int offset, final int n, int i, final int arity) {
+        final float element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (array[offset + child] > array[offset + largest]) {
+                    largest = child;
+                }
+            }
+            if (array[offset + largest] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + largest];
+            i = largest;
+        }
+        array[offset + i] = element;
+    }
+
+    /**
+     * Sifts heap node i down within the {@code double} heap occupying array[offset..offset + n - 1].
+     */
+    private static void heapify(@NotNull final double[] array, final int offset, final int n, int i) {
+        final double element = array[offset + i];
+        final int parents = n >>> 1;
+        while (i < parents) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && array[offset + child + 1] > array[offset + child]) {
+                child++;
+            }
+            if (array[offset + child] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = element;
+    }
 
-            // Recursively heapify the affected sub-tree
-            heapify(list, n, largest, comparator);
+    private static void siftDown(@NotNull final double[] array, final int offset, final int n, int i, final int arity) {
+        final double element = array[offset + i];
+        final int parents = parents(n, arity);
+        while (i < parents) {
+            final int first = arity * i + 1;
+            final int last = n - first <= arity ? n : first + arity;
+            int largest = first;
+            for (int child = first + 1; child < last; child++) {
+                if (array[offset + child] > array[offset + largest]) {
+                    largest = child;
+                }
+            }
+            if (array[offset + largest] <= element) {
+                break;
+            }
+            array[offset + i] = array[offset + largest];
+            i = largest;
         }
+        array[offset + i] = element;
     }
 }
\ No newline at end of file
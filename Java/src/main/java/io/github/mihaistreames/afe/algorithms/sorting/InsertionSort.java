@@ -2,7 +2,6 @@ package io.github.mihaistreames.afe.algorithms.sorting;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -15,6 +14,12 @@ import java.util.Objects;
  * as a subroutine in more complex algorithms like QuickSort for small partitions.
  * </p>
  * <p>
+ * The {@code sortBinary} methods offer a binary insertion mode for objects, which finds
+ * each insertion point with a binary search and shifts the displaced block in one copy.
+ * It does fewer comparisons at the same number of moves, and returns after a single
+ * verification pass when the input is already sorted.
+ * </p>
+ * <p>
  * <strong>Time Complexity:</strong> O(n²) worst case, O(n) best case (nearly sorted)<br>
  * <strong>Space Complexity:</strong> O(1) additional space<br>
  * <strong>Stability:</strong> Stable - maintains relative order of equal elements<br>
@@ -53,6 +58,7 @@ public final class InsertionSort {
      * Sorts the list using the provided comparator and insertion sort.
      * <p>
      * The sort is stable and performs very well on small or nearly sorted datasets.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -64,24 +70,64 @@ public final class InsertionSort {
         Objects.requireNonNull(list, "List cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
 
-        final int n = list.size();
-        if (n <= 1) {
+        if (list.size() <= 1) {
             return;
         }
 
-        for (int i = 1; i < n; i++) {
-            final T key = list.get(i);
-            int j = i - 1;
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
 
-            // Move elements greater than key one position ahead
-            while (j >= 0 && comparator.compare(list.get(j), key) > 0) {
-                list.set(j + 1, list.get(j));
-                j--;
-            }
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using insertion sort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
 
-            // Insert key at its correct position
-            list.set(j + 1, key);
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and insertion sort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
+            return;
         }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -89,8 +135,7 @@ public final class InsertionSort {
     /**
      * Sorts the array in ascending natural order using insertion sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>   the type of elements, must extend {@link Comparable}
@@ -99,15 +144,13 @@ public final class InsertionSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and insertion sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>        the type of elements
@@ -118,7 +161,583 @@ public final class InsertionSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+        insertionSort(array, 0, array.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        insertionSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PUBLIC API - Binary Insertion Operations ==========
+
+    /**
+     * Sorts the list in ascending natural order using binary insertion sort.
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to sort
+     * @throws NullPointerException if the list is null
+     * @see #sortBinary(Object[], int, int, Comparator)
+     */
+    public static <T extends Comparable<T>> void sortBinary(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sortBinary(list, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and binary insertion sort.
+     * <p>
+     * The list is copied into an array, so every insertion shifts its block with a single
+     * {@link System#arraycopy} instead of element-by-element list updates.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the list or comparator is null
+     * @see #sortBinary(Object[], int, int, Comparator)
+     */
+    public static <T> void sortBinary(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortBinary(array, comparator));
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and
+     * binary insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     * @see #sortBinary(Object[], int, int, Comparator)
+     */
+    public static <T> void sortBinary(@NotNull final List<T> list,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sortBinary(array, comparator));
+    }
+
+    /**
+     * Sorts the array in ascending natural order using binary insertion sort.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     * @see #sortBinary(Object[], int, int, Comparator)
+     */
+    public static <T extends Comparable<T>> void sortBinary(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sortBinary(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and binary insertion sort.
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array or comparator is null
+     * @see #sortBinary(Object[], int, int, Comparator)
+     */
+    public static <T> void sortBinary(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        binaryInsertionSort(array, 0, array.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and
+     * binary insertion sort.
+     * <p>
+     * A linear pass first finds the longest sorted prefix of the range, so already sorted
+     * input returns after n - 1 comparisons. Each remaining element is then placed by a
+     * binary search over the sorted part, which takes O(log i) comparisons instead of the
+     * O(i) of {@link #sort(Object[], int, int, Comparator)}, and the elements it displaces
+     * are shifted with a single {@link System#arraycopy}. Element moves stay quadratic, so
+     * this mode pays off when comparisons are expensive relative to moves, such as sorting
+     * small ranges of objects with a non-trivial comparator.
+     * </p>
+     * <p>
+     * The sort is stable. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sortBinary(@NotNull final T[] array,
+                                      final int fromIndex,
+                                      final int toIndex,
+                                      @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        binaryInsertionSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using insertion sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        insertionSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using insertion sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        insertionSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using insertion sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        insertionSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using insertion sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        insertionSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using insertion sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1, InsertionSort::insertionSort);
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using insertion sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1, InsertionSort::insertionSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        insertionSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        insertionSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code short} values into ascending
+     * numerical order using insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final short[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        insertionSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code char} values into ascending
+     * numerical order using insertion sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final char[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        insertionSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using insertion sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, InsertionSort::insertionSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using insertion sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, InsertionSort::insertionSort);
+    }
+
+    // ========== INTERNAL API - Array Kernels ==========
+
+    /**
+     * Sorts array[low..high] in place using insertion sort.
+     * <p>
+     * Also used by other algorithms in this package to finish small ranges.
+     * </p>
+     */
+    static <T> void insertionSort(@NotNull final T[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final Comparator<T> comparator) {
+        for (int i = low + 1; i <= high; i++) {
+            final T key = array[i];
+            int j = i - 1;
+
+            // Move elements greater than key one position ahead
+            while (j >= low && comparator.compare(array[j], key) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            // Insert key at its correct position
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] in place using binary insertion sort.
+     * <p>
+     * A linear pass first finds the longest sorted prefix, so sorted input costs
+     * high - low comparisons and no moves; the rest of the range is then inserted
+     * into that prefix.
+     * </p>
+     */
+    static <T> void binaryInsertionSort(@NotNull final T[] array,
+                                        final int low,
+                                        final int high,
+                                        @NotNull final Comparator<T> comparator) {
+        int start = low + 1;
+        while (start <= high && comparator.compare(array[start - 1], array[start]) <= 0) {
+            start++;
+        }
+        if (start <= high) {
+            binaryInsertionSort(array, low, high, start, comparator);
+        }
+    }
+
+    /**
+     * Sorts array[low..high] in place using binary insertion sort, assuming that
+     * array[low..start-1] is already sorted.
+     * <p>
+     * The insertion point is found with O(log n) comparisons and the displaced block is
+     * moved with a single {@link System#arraycopy}. Equal elements keep their order.
+     * </p>
+     */
+    static <T> void binaryInsertionSort(@NotNull final T[] array,
+                                        final int low,
+                                        final int high,
+                                        int start,
+                                        @NotNull final Comparator<T> comparator) {
+        if (start == low) {
+            start++;
+        }
+
+        for (; start <= high; start++) {
+            final T key = array[start];
+            int left = low;
+            int right = start;
+
+            // Find the first position whose element is greater than key
+            while (left < right) {
+                final int mid = (left + right) >>> 1;
+                if (comparator.compare(key, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code int} values in place using insertion sort.
+     */
+    static void insertionSort(@NotNull final int[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final int key = array[i];
+            int j = i - 1;
+
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values in place using insertion sort.
+     */
+    static void insertionSort(@NotNull final long[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final long key = array[i];
+            int j = i - 1;
+
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values in place using insertion sort.
+     */
+    static void insertionSort(@NotNull final short[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final short key = array[i];
+            int j = i - 1;
+
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values in place using insertion sort.
+     */
+    static void insertionSort(@NotNull final char[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final char key = array[i];
+            int j = i - 1;
+
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values in place using insertion sort.
+     */
+    static void insertionSort(@NotNull final float[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final float key = array[i];
+            int j = i - 1;
+
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values in place using insertion sort.
+     */
+    static void insertionSort(@NotNull final double[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final double key = array[i];
+            int j = i - 1;
+
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = key;
+        }
     }
 }
\ No newline at end of file
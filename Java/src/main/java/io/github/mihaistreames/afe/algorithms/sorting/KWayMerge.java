@@ -0,0 +1,282 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Merges any number of sorted sources into one sorted sequence.
+ * <p>
+ * The merge uses a tournament tree of losers: every internal node remembers the source
+ * that lost the match played there, and the overall winner sits above the root. Taking the
+ * winner only replays the matches on the path from its leaf to the root, so each output
+ * element costs about log2(k) comparisons for k sources, against up to k - 1 for a linear
+ * scan and about 2 log2(k) for a binary heap.
+ * </p>
+ * <p>
+ * The merge is stable: equal elements are emitted in source order, and elements from the
+ * same source keep their order. Sources must already be sorted by the same comparator;
+ * this is not checked.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(n log k) for n elements in k sources<br>
+ * <strong>Space Complexity:</strong> O(k) auxiliary space, plus the output<br>
+ * <strong>Stability:</strong> Stable - ties go to the source with the lower index
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // ========== PUBLIC API - List Operations ==========
+
+    /**
+     * Merges sorted lists into a new list in ascending natural order.
+     *
+     * @param <T>     the type of elements, must extend {@link Comparable}
+     * @param sources the sorted lists to merge
+     * @return a new list holding every element of the sources in sorted order
+     * @throws NullPointerException if the sources or any source is null
+     */
+    public static <T extends Comparable<T>> List<T> merge(@NotNull final List<? extends List<T>> sources) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        return merge(sources, Comparable::compareTo);
+    }
+
+    /**
+     * Merges lists sorted by the comparator into a new list.
+     *
+     * @param <T>        the type of elements
+     * @param sources    the sorted lists to merge
+     * @param comparator the comparator the sources are sorted by
+     * @return a new list holding every element of the sources in sorted order
+     * @throws NullPointerException if the sources, any source or the comparator is null
+     */
+    public static <T> List<T> merge(@NotNull final List<? extends List<T>> sources,
+                                    @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        int total = 0;
+        final List<Iterator<T>> iterators = new ArrayList<>(sources.size());
+        for (final List<T> source : sources) {
+            Objects.requireNonNull(source, "Source cannot be null");
+            total = Math.addExact(total, source.size());
+            iterators.add(source.iterator());
+        }
+
+        final List<T> result = new ArrayList<>(total);
+        final LoserTree<T> tree = new LoserTree<>(iterators, comparator);
+        while (tree.hasNext()) {
+            result.add(tree.next());
+        }
+        return result;
+    }
+
+    // ========== PUBLIC API - Array Operations ==========
+
+    /**
+     * Merges sorted arrays into a new array in ascending natural order.
+     *
+     * @param <T>     the type of elements, must extend {@link Comparable}
+     * @param sources the sorted arrays to merge
+     * @return a new array of the sources' component type holding every element in sorted order
+     * @throws NullPointerException if the sources or any source is null
+     */
+    public static <T extends Comparable<T>> T[] merge(@NotNull final T[][] sources) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        return merge(sources, Comparable::compareTo);
+    }
+
+    /**
+     * Merges arrays sorted by the comparator into a new array.
+     *
+     * @param <T>        the type of elements
+     * @param sources    the sorted arrays to merge
+     * @param comparator the comparator the sources are sorted by
+     * @return a new array of the sources' component type holding every element in sorted order
+     * @throws NullPointerException if the sources, any source or the comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T[] merge(@NotNull final T[][] sources, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        int total = 0;
+        final List<Iterator<T>> iterators = new ArrayList<>(sources.length);
+        for (final T[] source : sources) {
+            Objects.requireNonNull(source, "Source cannot be null");
+            total = Math.addExact(total, source.length);
+            iterators.add(Arrays.asList(source).iterator());
+        }
+
+        final T[] result = (T[]) Array.newInstance(sources.getClass().getComponentType().getComponentType(), total);
+        final LoserTree<T> tree = new LoserTree<>(iterators, comparator);
+        for (int i = 0; i < total; i++) {
+            result[i] = tree.next();
+        }
+        return result;
+    }
+
+    // ========== PUBLIC API - Iterator Operations ==========
+
+    /**
+     * Lazily merges sorted iterators in ascending natural order.
+     *
+     * @param <T>     the type of elements, must extend {@link Comparable}
+     * @param sources the sorted iterators to merge
+     * @return an iterator over the merged elements
+     * @throws NullPointerException if the sources or any source is null
+     * @see #mergeIterators(List, Comparator)
+     */
+    public static <T extends Comparable<T>> Iterator<T> mergeIterators(
+            @NotNull final List<? extends Iterator<T>> sources) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        return mergeIterators(sources, Comparable::compareTo);
+    }
+
+    /**
+     * Lazily merges iterators sorted by the comparator.
+     * <p>
+     * No source is read until the result is first queried. After that, each source is read
+     * one element ahead of the output, so sources can be unbounded or backed by I/O. The
+     * sources must not be advanced by anyone else while the merge is in use. The returned
+     * iterator does not support {@link Iterator#remove()}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param sources    the sorted iterators to merge
+     * @param comparator the comparator the sources are sorted by
+     * @return an iterator over the merged elements
+     * @throws NullPointerException if the sources, any source or the comparator is null
+     */
+    public static <T> Iterator<T> mergeIterators(@NotNull final List<? extends Iterator<T>> sources,
+                                                 @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        final List<Iterator<T>> iterators = new ArrayList<>(sources.size());
+        for (final Iterator<T> source : sources) {
+            iterators.add(Objects.requireNonNull(source, "Source cannot be null"));
+        }
+        return new LoserTree<>(iterators, comparator);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Tournament tree of losers over k iterators.
+     * <p>
+     * Leaves are the sources, at implicit positions k..2k-1; internal node t in 1..k-1 holds
+     * the loser of the match between its two children, and node 0 holds the overall winner.
+     * Exhausted sources lose every match, so the merge ends when the winner is exhausted.
+     * </p>
+     */
+    private static final class LoserTree<T> implements Iterator<T> {
+        private final List<Iterator<T>> sources;
+        private final Comparator<T> comparator;
+        private final T[] heads;
+        private final boolean[] exhausted;
+        private final int[] tree;
+        private final int k;
+        private boolean initialized;
+
+        LoserTree(@NotNull final List<Iterator<T>> sources, @NotNull final Comparator<T> comparator) {
+            this.sources = sources;
+            this.comparator = comparator;
+            this.k = sources.size();
+            this.heads = SortingUtils.newBuffer(k);
+            this.exhausted = new boolean[k];
+            this.tree = new int[Math.max(k, 1)];
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!initialized) {
+                initialize();
+            }
+            return k > 0 && !exhausted[tree[0]];
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final int winner = tree[0];
+            final T element = heads[winner];
+            advance(winner);
+
+            // Replay the matches on the winner's path with its next element
+            int current = winner;
+            for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+                if (beats(tree[node], current)) {
+                    final int loser = current;
+                    current = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = current;
+            return element;
+        }
+
+        /**
+         * Reads the first element of every source and plays the initial tournament. Each
+         * source climbs until it reaches a node no other source has reached yet and waits
+         * there; the source arriving second plays the waiting one and the winner climbs on.
+         */
+        private void initialize() {
+            initialized = true;
+            for (int source = 0; source < k; source++) {
+                advance(source);
+            }
+
+            Arrays.fill(tree, -1);
+            for (int source = 0; source < k; source++) {
+                int winner = source;
+                int node = (source + k) >>> 1;
+                while (node > 0 && tree[node] != -1) {
+                    if (beats(tree[node], winner)) {
+                        final int loser = winner;
+                        winner = tree[node];
+                        tree[node] = loser;
+                    }
+                    node >>>= 1;
+                }
+                tree[node] = winner;
+            }
+        }
+
+        private void advance(final int source) {
+            final Iterator<T> iterator = sources.get(source);
+            if (iterator.hasNext()) {
+                heads[source] = iterator.next();
+            } else {
+                heads[source] = null;
+                exhausted[source] = true;
+            }
+        }
+
+        /**
+         * Returns whether source a wins against source b, with ties going to the lower index.
+         */
+        private boolean beats(final int a, final int b) {
+            if (exhausted[a]) {
+                return false;
+            }
+            if (exhausted[b]) {
+                return true;
+            }
+            final int comparison = comparator.compare(heads[a], heads[b]);
+            return comparison < 0 || (comparison == 0 && a < b);
+        }
+    }
+}
\ No newline at end of file
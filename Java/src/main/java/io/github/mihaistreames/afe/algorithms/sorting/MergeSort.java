@@ -3,6 +3,12 @@ package io.github.mihaistreames.afe.algorithms.sorting;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Implementation of the Merge Sort algorithm.
@@ -23,6 +29,11 @@ import java.util.*;
  */
 public final class MergeSort {
 
+    /**
+     * Default range size below which {@code parallelSort} stops splitting work into tasks.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
     private MergeSort() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -49,6 +60,7 @@ public final class MergeSort {
      * Sorts the list using the provided comparator and merge sort.
      * <p>
      * The sort is stable and guaranteed to run in O(n log n) time.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -64,8 +76,60 @@ public final class MergeSort {
             return;
         }
 
-        final List<T> auxiliary = new ArrayList<>(Collections.nCopies(list.size(), null));
-        mergeSortRecursive(list, auxiliary, 0, list.size() - 1, comparator);
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using merge sort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and merge sort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
     }
 
     /**
@@ -89,6 +153,7 @@ public final class MergeSort {
      * <p>
      * This bottom-up approach eliminates recursion and prevents stack overflow
      * issues for very large datasets.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -100,20 +165,51 @@ public final class MergeSort {
         Objects.requireNonNull(list, "List cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
 
-        final int n = list.size();
-        if (n <= 1) {
+        if (list.size() <= 1) {
             return;
         }
 
-        final List<T> auxiliary = new ArrayList<>(Collections.nCopies(n, null));
+        SortingUtils.sortThroughArray(list, array -> sortIterative(array, comparator));
+    }
 
-        for (int size = 1; size < n; size = size + size) {
-            for (int low = 0; low < n - size; low += size + size) {
-                final int mid = low + size - 1;
-                final int high = Math.min(low + size + size - 1, n - 1);
-                merge(list, auxiliary, low, mid, high, comparator);
-            }
+    /**
+     * Sorts the list in ascending natural order using adaptive (natural-run) merge sort.
+     * <p>
+     * The list elements must implement {@link Comparable}. Existing ascending and descending
+     * runs are detected and merged with galloping, so presorted or nearly sorted input costs
+     * O(n) comparisons. The sort is stable.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to sort
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> void sortAdaptive(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sortAdaptive(list, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and adaptive (natural-run) merge sort.
+     * <p>
+     * Existing ascending and descending runs are detected and merged with galloping, so
+     * presorted or nearly sorted input costs O(n) comparisons. The sort is stable.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> void sortAdaptive(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return;
         }
+
+        SortingUtils.sortThroughArray(list, array -> sortAdaptive(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -121,8 +217,7 @@ public final class MergeSort {
     /**
      * Sorts the array in ascending natural order using merge sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place using an auxiliary buffer of half its length.
      * </p>
      *
      * @param <T>   the type of elements, must extend {@link Comparable}
@@ -131,15 +226,13 @@ public final class MergeSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and merge sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place using an auxiliary buffer of half its length.
      * </p>
      *
      * @param <T>        the type of elements
@@ -150,65 +243,2246 @@ public final class MergeSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+
+        if (array.length <= 1) {
+            return;
+        }
+
+        final T[] buffer = SortingUtils.newBuffer(halfLength(array.length));
+        mergeSortRecursive(array, buffer, 0, 0, array.length - 1, comparator);
     }
 
-    // ========== PRIVATE IMPLEMENTATION ==========
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using merge sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
 
     /**
-     * Recursively sorts the specified portion of the list using merge sort.
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and merge sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
      */
-    private static <T> void mergeSortRecursive(@NotNull final List<T> list,
-                                               @NotNull final List<T> auxiliary,
-                                               final int low,
-                                               final int high,
-                                               @NotNull final Comparator<T> comparator) {
-        if (high <= low) {
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
             return;
         }
 
-        final int mid = low + (high - low) / 2;
-        mergeSortRecursive(list, auxiliary, low, mid, comparator);
-        mergeSortRecursive(list, auxiliary, mid + 1, high, comparator);
-        merge(list, auxiliary, low, mid, high, comparator);
+        final T[] buffer = SortingUtils.newBuffer(halfLength(toIndex - fromIndex));
+        mergeSortRecursive(array, buffer, 0, fromIndex, toIndex - 1, comparator);
     }
 
     /**
-     * Merges two sorted sublists into a single sorted list.
+     * Sorts the array using iterative merge sort with natural ordering.
      * <p>
-     * Merges list[low..mid] with list[mid+1..high] using the auxiliary array.
+     * This bottom-up approach eliminates recursion and prevents stack overflow
+     * issues for very large datasets.
      * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
      */
-    private static <T> void merge(@NotNull final List<T> list,
-                                  @NotNull final List<T> auxiliary,
-                                  final int low,
-                                  final int mid,
-                                  final int high,
-                                  @NotNull final Comparator<T> comparator) {
-        // Copy current state to auxiliary list
-        for (int k = low; k <= high; k++) {
-            auxiliary.set(k, list.get(k));
-        }
-
-        int i = low;        // Index for left sublist
-        int j = mid + 1;    // Index for right sublist
-
-        // Merge back to original list
-        for (int k = low; k <= high; k++) {
-            if (i > mid) {
-                // Left sublist exhausted, take from right
-                list.set(k, auxiliary.get(j++));
-            } else if (j > high) {
-                // Right sublist exhausted, take from left
-                list.set(k, auxiliary.get(i++));
-            } else if (comparator.compare(auxiliary.get(j), auxiliary.get(i)) < 0) {
-                // Right element is smaller, take from right
-                list.set(k, auxiliary.get(j++));
-            } else {
-                // Left element is smaller or equal, take from left (maintains stability)
-                list.set(k, auxiliary.get(i++));
-            }
+    public static <T extends Comparable<T>> void sortIterative(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sortIterative(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using iterative merge sort with a custom comparator.
+     * <p>
+     * This bottom-up approach eliminates recursion and prevents stack overflow
+     * issues for very large datasets.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> void sortIterative(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        mergeSortIterative(array, SortingUtils.newBuffer(Integer.highestOneBit(n - 1)), n, comparator);
+    }
+
+    /**
+     * Sorts the array in ascending natural order using adaptive (natural-run) merge sort.
+     * <p>
+     * The array elements must implement {@link Comparable}. Existing ascending and descending
+     * runs are detected and merged with galloping, so presorted or nearly sorted input costs
+     * O(n) comparisons. The sort is stable.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> void sortAdaptive(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sortAdaptive(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and adaptive (natural-run) merge sort.
+     * <p>
+     * Existing ascending and descending runs are detected and merged with galloping, so
+     * presorted or nearly sorted input costs O(n) comparisons. The sort is stable.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> void sortAdaptive(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        if (array.length <= 1) {
+            return;
         }
+
+        new RunMerger<>(array, comparator).sort(0, array.length - 1);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using merge sort.
+     * <p>
+     * The array is sorted without boxing, using an auxiliary buffer of half its length.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        mergeSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using merge sort.
+     * <p>
+     * The array is sorted without boxing, using an auxiliary buffer of half its length.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        mergeSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using merge sort.
+     * <p>
+     * The array is sorted without boxing, using an auxiliary buffer of half its length.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        mergeSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using merge sort.
+     * <p>
+     * The array is sorted without boxing, using an auxiliary buffer of half its length.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        mergeSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using merge sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted without boxing, using an auxiliary buffer
+     * of half its length.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1, MergeSort::mergeSort);
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using merge sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted without boxing, using an auxiliary buffer
+     * of half its length.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1, MergeSort::mergeSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using merge sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        mergeSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using merge sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        mergeSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code short} values into ascending
+     * numerical order using merge sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final short[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        mergeSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code char} values into ascending
+     * numerical order using merge sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final char[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        mergeSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using merge sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, MergeSort::mergeSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using merge sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, MergeSort::mergeSort);
+    }
+
+    // ========== PUBLIC API - Workspace Operations ==========
+
+    /**
+     * Sorts the list using the provided comparator and merge sort, taking all auxiliary
+     * memory from the given workspace.
+     * <p>
+     * Once the workspace has grown to the list size, repeated sorts allocate nothing.
+     * Pass {@link SortWorkspace#forCurrentThread()} to reuse a per-thread workspace.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @param workspace  the workspace supplying scratch memory
+     * @throws NullPointerException if the list, comparator or workspace is null
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                @NotNull final Comparator<T> comparator,
+                                @NotNull final SortWorkspace workspace) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+
+        final int n = list.size();
+        if (n <= 1) {
+            return;
+        }
+
+        try {
+            final T[] array = workspace.copyOf(list);
+            mergeSortRecursive(array, workspace.scratch(halfLength(n)), 0, 0, n - 1, comparator);
+            SortingUtils.writeBack(list, array);
+        } finally {
+            workspace.clear(n);
+        }
+    }
+
+    /**
+     * Sorts the array using the provided comparator and merge sort, taking the auxiliary
+     * buffer from the given workspace.
+     * <p>
+     * Once the workspace has grown to half the array length, repeated sorts allocate nothing.
+     * Pass {@link SortWorkspace#forCurrentThread()} to reuse a per-thread workspace.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @param workspace  the workspace supplying scratch memory
+     * @throws NullPointerException if the array, comparator or workspace is null
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                @NotNull final Comparator<T> comparator,
+                                @NotNull final SortWorkspace workspace) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        try {
+            mergeSortRecursive(array, workspace.scratch(halfLength(n)), 0, 0, n - 1, comparator);
+        } finally {
+            workspace.clear(halfLength(n));
+        }
+    }
+
+    /**
+     * Sorts the list using iterative merge sort with a custom comparator, taking all
+     * auxiliary memory from the given workspace.
+     * <p>
+     * Once the workspace has grown to the list size, repeated sorts allocate nothing.
+     * Pass {@link SortWorkspace#forCurrentThread()} to reuse a per-thread workspace.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @param workspace  the workspace supplying scratch memory
+     * @throws NullPointerException if the list, comparator or workspace is null
+     */
+    public static <T> void sortIterative(@NotNull final List<T> list,
+                                         @NotNull final Comparator<T> comparator,
+                                         @NotNull final SortWorkspace workspace) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+
+        final int n = list.size();
+        if (n <= 1) {
+            return;
+        }
+
+        try {
+            final T[] array = workspace.copyOf(list);
+            mergeSortIterative(array, workspace.scratch(Integer.highestOneBit(n - 1)), n, comparator);
+            SortingUtils.writeBack(list, array);
+        } finally {
+            workspace.clear(n);
+        }
+    }
+
+    /**
+     * Sorts the array using iterative merge sort with a custom comparator, taking the
+     * auxiliary buffer from the given workspace.
+     * <p>
+     * Once the workspace has grown large enough, repeated sorts allocate nothing.
+     * Pass {@link SortWorkspace#forCurrentThread()} to reuse a per-thread workspace.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @param workspace  the workspace supplying scratch memory
+     * @throws NullPointerException if the array, comparator or workspace is null
+     */
+    public static <T> void sortIterative(@NotNull final T[] array,
+                                         @NotNull final Comparator<T> comparator,
+                                         @NotNull final SortWorkspace workspace) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(workspace, "Workspace cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final int bufferLength = Integer.highestOneBit(n - 1);
+        try {
+            mergeSortIterative(array, workspace.scratch(bufferLength), n, comparator);
+        } finally {
+            workspace.clear(bufferLength);
+        }
+    }
+
+    // ========== PUBLIC API - Key Extractor Operations ==========
+
+    /**
+     * Sorts the list by the natural order of a key computed from each element.
+     * <p>
+     * Each key is extracted exactly once into a parallel array, so expensive key derivations
+     * (parsing, collation keys, nested lookups) are not repeated on every comparison. The
+     * sort is stable.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param <K>          the type of keys, must extend {@link Comparable}
+     * @param list         the list to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the list or key extractor is null
+     */
+    public static <T, K extends Comparable<K>> void sortByKey(@NotNull final List<T> list,
+                                                              @NotNull final Function<? super T, K> keyExtractor) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sortByKey(list, keyExtractor, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list by a key computed from each element, ordered by the key comparator.
+     * <p>
+     * Each key is extracted exactly once into a parallel array. The (key, index) pairs are
+     * merge sorted and the resulting permutation is applied to the elements in place, so the
+     * comparator only ever sees keys. The sort is stable.
+     * </p>
+     *
+     * @param <T>           the type of elements
+     * @param <K>           the type of keys
+     * @param list          the list to sort
+     * @param keyExtractor  the function extracting the sort key of an element
+     * @param keyComparator the comparator to determine key order
+     * @throws NullPointerException if the list, key extractor or key comparator is null
+     */
+    public static <T, K> void sortByKey(@NotNull final List<T> list,
+                                        @NotNull final Function<? super T, ? extends K> keyExtractor,
+                                        @NotNull final Comparator<K> keyComparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+        Objects.requireNonNull(keyComparator, "Key comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortByKey(array, keyExtractor, keyComparator));
+    }
+
+    /**
+     * Sorts the array by the natural order of a key computed from each element.
+     * <p>
+     * Each key is extracted exactly once into a parallel array, so expensive key derivations
+     * (parsing, collation keys, nested lookups) are not repeated on every comparison. The
+     * sort is stable.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param <K>          the type of keys, must extend {@link Comparable}
+     * @param array        the array to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the array or key extractor is null
+     */
+    public static <T, K extends Comparable<K>> void sortByKey(@NotNull final T[] array,
+                                                              @NotNull final Function<? super T, K> keyExtractor) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sortByKey(array, keyExtractor, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array by a key computed from each element, ordered by the key comparator.
+     * <p>
+     * Each key is extracted exactly once into a parallel array. The (key, index) pairs are
+     * merge sorted and the resulting permutation is applied to the elements in place, so the
+     * comparator only ever sees keys. The sort is stable.
+     * </p>
+     *
+     * @param <T>           the type of elements
+     * @param <K>           the type of keys
+     * @param array         the array to sort
+     * @param keyExtractor  the function extracting the sort key of an element
+     * @param keyComparator the comparator to determine key order
+     * @throws NullPointerException if the array, key extractor or key comparator is null
+     */
+    public static <T, K> void sortByKey(@NotNull final T[] array,
+                                        @NotNull final Function<? super T, ? extends K> keyExtractor,
+                                        @NotNull final Comparator<K> keyComparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+        Objects.requireNonNull(keyComparator, "Key comparator cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final K[] keys = SortingUtils.newBuffer(n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.apply(array[i]);
+        }
+        Permutations.permute(array, sortedOrder(keys, keyComparator));
+    }
+
+    /**
+     * Sorts the list by the {@code int} key of each element, in ascending key order.
+     * <p>
+     * Each key is extracted exactly once. The sort is stable.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param list         the list to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the list or key extractor is null
+     */
+    public static <T> void sortByIntKey(@NotNull final List<T> list,
+                                        @NotNull final ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortByIntKey(array, keyExtractor));
+    }
+
+    /**
+     * Sorts the array by the {@code int} key of each element, in ascending key order.
+     * <p>
+     * Each key is extracted exactly once. The sort is stable.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param array        the array to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the array or key extractor is null
+     */
+    public static <T> void sortByIntKey(@NotNull final T[] array,
+                                        @NotNull final ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+        Permutations.permute(array, sortedOrder(keys));
+    }
+
+    /**
+     * Sorts the list by the {@code long} key of each element, in ascending key order.
+     * <p>
+     * Each key is extracted exactly once. The sort is stable.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param list         the list to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the list or key extractor is null
+     */
+    public static <T> void sortByLongKey(@NotNull final List<T> list,
+                                         @NotNull final ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortByLongKey(array, keyExtractor));
+    }
+
+    /**
+     * Sorts the array by the {@code long} key of each element, in ascending key order.
+     * <p>
+     * Each key is extracted exactly once. The sort is stable.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param array        the array to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the array or key extractor is null
+     */
+    public static <T> void sortByLongKey(@NotNull final T[] array,
+                                         @NotNull final ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+        Permutations.permute(array, sortedOrder(keys));
+    }
+
+    /**
+     * Sorts the list by the {@code double} key of each element, in ascending key order.
+     * <p>
+     * Each key is extracted exactly once. The sort is stable.
+     * Keys are ordered like {@link Double#compare(double, double)}: NaN last and
+     * {@code -0.0} before {@code 0.0}.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param list         the list to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the list or key extractor is null
+     */
+    public static <T> void sortByDoubleKey(@NotNull final List<T> list,
+                                           @NotNull final ToDoubleFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortByDoubleKey(array, keyExtractor));
+    }
+
+    /**
+     * Sorts the array by the {@code double} key of each element, in ascending key order.
+     * <p>
+     * Each key is extracted exactly once. The sort is stable.
+     * Keys are ordered like {@link Double#compare(double, double)}: NaN last and
+     * {@code -0.0} before {@code 0.0}.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param array        the array to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the array or key extractor is null
+     */
+    public static <T> void sortByDoubleKey(@NotNull final T[] array,
+                                           @NotNull final ToDoubleFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = SortingUtils.orderedBits(Double.doubleToLongBits(keyExtractor.applyAsDouble(array[i])));
+        }
+        Permutations.permute(array, sortedOrder(keys));
+    }
+
+    // ========== PUBLIC API - Argsort Operations ==========
+
+    /**
+     * Returns the permutation that sorts the list in ascending natural order, using merge sort.
+     * <p>
+     * The list is not modified. Element {@code order[i]} of the list is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other list or array of
+     * the same length. The order is stable: equal elements keep their original relative order.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to order
+     * @return the sorting permutation, a new array of length {@code list.size()}
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int[] argsort(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return argsort(list, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the permutation that sorts the list according to the comparator, using merge sort.
+     * <p>
+     * The list is not modified. Element {@code order[i]} of the list is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other list or array of
+     * the same length. The order is stable: equal elements keep their original relative order.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to order
+     * @param comparator the comparator to determine element order
+     * @return the sorting permutation, a new array of length {@code list.size()}
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int[] argsort(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return sortedOrder(SortingUtils.toArray(list), comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the array in ascending natural order, using merge sort.
+     * <p>
+     * The array is not modified. Element {@code order[i]} of the array is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other array of the
+     * same length. The order is stable: equal elements keep their original relative order.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int[] argsort(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return argsort(array, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the permutation that sorts the array according to the comparator, using merge sort.
+     * <p>
+     * The array is not modified. Element {@code order[i]} of the array is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other array of the
+     * same length. The order is stable: equal elements keep their original relative order.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to order
+     * @param comparator the comparator to determine element order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int[] argsort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        final T[] keys = SortingUtils.newBuffer(array.length);
+        System.arraycopy(array, 0, keys, 0, array.length);
+        return sortedOrder(keys, comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code int} values into ascending
+     * numerical order, using merge sort.
+     * <p>
+     * The array is not modified. The order is stable: equal values keep their original relative order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code long} values into ascending
+     * numerical order, using merge sort.
+     * <p>
+     * The array is not modified. The order is stable: equal values keep their original relative order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code short} values into ascending
+     * numerical order, using merge sort.
+     * <p>
+     * The array is not modified. The order is stable: equal values keep their original relative order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code char} values into ascending
+     * numerical order, using merge sort.
+     * <p>
+     * The array is not modified. The order is stable: equal values keep their original relative order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code float} values into ascending
+     * numerical order, using merge sort.
+     * <p>
+     * The array is not modified. The order is stable: equal values keep their original relative order.
+     * Values are ordered like {@link Float#compare(float, float)}: NaN last and negative zero first.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code double} values into ascending
+     * numerical order, using merge sort.
+     * <p>
+     * The array is not modified. The order is stable: equal values keep their original relative order.
+     * Values are ordered like {@link Double#compare(double, double)}: NaN last and negative zero first.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    // ========== PUBLIC API - Parallel Operations ==========
+
+    /**
+     * Sorts the list in ascending natural order using parallel merge sort.
+     * <p>
+     * The list elements must implement {@link Comparable}. The work is split across the
+     * {@link ForkJoinPool#commonPool() common pool}; the sort remains stable.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to sort
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> void parallelSort(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        parallelSort(list, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and parallel merge sort.
+     * <p>
+     * The work is split across the {@link ForkJoinPool#commonPool() common pool};
+     * the sort remains stable.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> void parallelSort(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        parallelSort(list, comparator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and parallel merge sort on the given pool.
+     * <p>
+     * Uses the {@link #DEFAULT_PARALLEL_THRESHOLD default threshold}; the sort remains stable.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @throws NullPointerException if the list, comparator or pool is null
+     */
+    public static <T> void parallelSort(@NotNull final List<T> list,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool) {
+        parallelSort(list, comparator, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and parallel merge sort on the given pool.
+     * <p>
+     * The list is copied into an array, sorted in parallel, and written back in a single pass.
+     * Ranges of at most {@code threshold} elements are sorted and merged sequentially.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @param threshold  the range size below which work is done sequentially
+     * @throws NullPointerException     if the list, comparator or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     */
+    public static <T> void parallelSort(@NotNull final List<T> list,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool,
+                                        final int threshold) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> parallelSortArray(array, comparator, pool, threshold));
+    }
+
+    /**
+     * Sorts the array in ascending natural order using parallel merge sort.
+     * <p>
+     * The array elements must implement {@link Comparable}. The work is split across the
+     * {@link ForkJoinPool#commonPool() common pool}; the sort remains stable.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> void parallelSort(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        parallelSort(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and parallel merge sort.
+     * <p>
+     * The work is split across the {@link ForkJoinPool#commonPool() common pool};
+     * the sort remains stable.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> void parallelSort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        parallelSort(array, comparator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and parallel merge sort on the given pool.
+     * <p>
+     * Uses the {@link #DEFAULT_PARALLEL_THRESHOLD default threshold}; the sort remains stable.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @throws NullPointerException if the array, comparator or pool is null
+     */
+    public static <T> void parallelSort(@NotNull final T[] array,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool) {
+        parallelSort(array, comparator, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and parallel merge sort on the given pool.
+     * <p>
+     * Ranges of at most {@code threshold} elements are sorted and merged sequentially.
+     * Both the recursive sort and the merge step are split into fork/join tasks.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @param threshold  the range size below which work is done sequentially
+     * @throws NullPointerException     if the array, comparator or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     */
+    public static <T> void parallelSort(@NotNull final T[] array,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool,
+                                        final int threshold) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        if (array.length <= 1) {
+            return;
+        }
+
+        parallelSortArray(array, comparator, pool, threshold);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Recursively sorts array[low..high] using merge sort, with buffer[start..] as scratch space.
+     * <p>
+     * The buffer needs room for the larger half of the range, {@code (high - low + 2) / 2}
+     * elements, from {@code start} on.
+     * </p>
+     */
+    private static <T> void mergeSortRecursive(@NotNull final T[] array,
+                                               @NotNull final T[] buffer,
+                                               final int start,
+                                               final int low,
+                                               final int high,
+                                               @NotNull final Comparator<T> comparator) {
+        if (high <= low) {
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, start, low, mid, comparator);
+        mergeSortRecursive(array, buffer, start, mid + 1, high, comparator);
+        merge(array, buffer, start, low, mid, high, comparator);
+    }
+
+    /**
+     * Merges two sorted subarrays into a single sorted range.
+     * <p>
+     * Merges array[low..mid] with array[mid+1..high]. Only the left half is copied out to
+     * buffer[start..]; the right half is merged in place, since the write position can never
+     * overtake it. The merge is skipped when the last element of the left half does not
+     * exceed the first of the right.
+     * </p>
+     */
+    private static <T> void merge(@NotNull final T[] array,
+                                  @NotNull final T[] buffer,
+                                  final int start,
+                                  final int low,
+                                  final int mid,
+                                  final int high,
+                                  @NotNull final Comparator<T> comparator) {
+        // Halves are already in order, nothing to merge
+        if (comparator.compare(array[mid], array[mid + 1]) <= 0) {
+            return;
+        }
+
+        final int end = start + mid - low;
+        System.arraycopy(array, low, buffer, start, mid - low + 1);
+
+        int i = start;
+        int j = mid + 1;
+        int k = low;
+        while (i <= end && j <= high) {
+            // Take from the left half on ties to keep the merge stable
+            if (comparator.compare(array[j], buffer[i]) < 0) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = buffer[i++];
+            }
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, end - i + 1);
+    }
+
+    /**
+     * Sorts array[0..n-1] using bottom-up merge sort.
+     * <p>
+     * The left run of every merge is a power of two smaller than n, so the buffer needs
+     * {@code Integer.highestOneBit(n - 1)} elements.
+     * </p>
+     */
+    private static <T> void mergeSortIterative(@NotNull final T[] array,
+                                               @NotNull final T[] buffer,
+                                               final int n,
+                                               @NotNull final Comparator<T> comparator) {
+        for (int size = 1; size < n; size = size + size) {
+            for (int low = 0; low < n - size; low += size + size) {
+                final int mid = low + size - 1;
+                final int high = Math.min(low + size + size - 1, n - 1);
+                merge(array, buffer, 0, low, mid, high, comparator);
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the larger half of a range of the given length, which is the
+     * scratch space a top-down merge sort of that range needs.
+     */
+    private static int halfLength(final int length) {
+        return (length + 1) >>> 1;
+    }
+
+    /**
+     * Stable merge of source[lowLeft..highLeft] and source[lowRight..highRight] into
+     * target starting at index {@code out}. Empty runs are expressed as high &lt; low.
+     */
+    private static <T> void mergeRuns(@NotNull final T[] source,
+                                      final int lowLeft,
+                                      final int highLeft,
+                                      final int lowRight,
+                                      final int highRight,
+                                      @NotNull final T[] target,
+                                      final int out,
+                                      @NotNull final Comparator<T> comparator) {
+        int i = lowLeft;
+        int j = lowRight;
+        int k = out;
+
+        while (i <= highLeft && j <= highRight) {
+            // Take from the left run on ties to keep the merge stable
+            if (comparator.compare(source[j], source[i]) < 0) {
+                target[k++] = source[j++];
+            } else {
+                target[k++] = source[i++];
+            }
+        }
+
+        final int leftRemaining = highLeft - i + 1;
+        if (leftRemaining > 0) {
+            System.arraycopy(source, i, target, k, leftRemaining);
+            k += leftRemaining;
+        }
+
+        final int rightRemaining = highRight - j + 1;
+        if (rightRemaining > 0) {
+            System.arraycopy(source, j, target, k, rightRemaining);
+        }
+    }
+
+    // ========== INTERNAL API - Key Kernels ==========
+
+    /**
+     * Sorts keys[low..high] with merge sort, moving order[] along with the keys.
+     * <p>
+     * The buffers need room for the larger half of the range. Only the left half is copied
+     * out for each merge, as in the element kernel.
+     * </p>
+     */
+    static <K> void mergeSortByKey(@NotNull final K[] keys,
+                                   @NotNull final int[] order,
+                                   @NotNull final K[] keyBuffer,
+                                   @NotNull final int[] orderBuffer,
+                                   final int low,
+                                   final int high,
+                                   @NotNull final Comparator<K> comparator) {
+        if (high <= low) {
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortByKey(keys, order, keyBuffer, orderBuffer, low, mid, comparator);
+        mergeSortByKey(keys, order, keyBuffer, orderBuffer, mid + 1, high, comparator);
+
+        // Halves are already in order, nothing to merge
+        if (comparator.compare(keys[mid], keys[mid + 1]) <= 0) {
+            return;
+        }
+
+        final int leftLength = mid - low + 1;
+        System.arraycopy(keys, low, keyBuffer, 0, leftLength);
+        System.arraycopy(order, low, orderBuffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            // Take from the left half on ties to keep the merge stable
+            if (comparator.compare(keys[j], keyBuffer[i]) < 0) {
+                keys[k] = keys[j];
+                order[k++] = order[j++];
+            } else {
+                keys[k] = keyBuffer[i];
+                order[k++] = orderBuffer[i++];
+            }
+        }
+
+        // Leftover right pairs are already in place
+        System.arraycopy(keyBuffer, i, keys, k, leftLength - i);
+        System.arraycopy(orderBuffer, i, order, k, leftLength - i);
+    }
+
+    /**
+     * Sorts keys[low..high] of {@code long} keys with merge sort, moving order[] along with the keys.
+     */
+    static void mergeSortByKey(@NotNull final long[] keys,
+                               @NotNull final int[] order,
+                               @NotNull final long[] keyBuffer,
+                               @NotNull final int[] orderBuffer,
+                               final int low,
+                               final int high) {
+        if (high <= low) {
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortByKey(keys, order, keyBuffer, orderBuffer, low, mid);
+        mergeSortByKey(keys, order, keyBuffer, orderBuffer, mid + 1, high);
+
+        // Halves are already in order, nothing to merge
+        if (keys[mid] <= keys[mid + 1]) {
+            return;
+        }
+
+        final int leftLength = mid - low + 1;
+        System.arraycopy(keys, low, keyBuffer, 0, leftLength);
+        System.arraycopy(order, low, orderBuffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            if (keys[j] < keyBuffer[i]) {
+                keys[k] = keys[j];
+                order[k++] = order[j++];
+            } else {
+                keys[k] = keyBuffer[i];
+                order[k++] = orderBuffer[i++];
+            }
+        }
+
+        // Leftover right pairs are already in place
+        System.arraycopy(keyBuffer, i, keys, k, leftLength - i);
+        System.arraycopy(orderBuffer, i, order, k, leftLength - i);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Key Sorting ==========
+
+    /**
+     * Returns the stable sorting permutation of keys, sorting the keys along the way.
+     */
+    private static <K> int[] sortedOrder(@NotNull final K[] keys, @NotNull final Comparator<K> comparator) {
+        final int n = keys.length;
+        final int[] order = SortingUtils.identity(n);
+        if (n > 1) {
+            final int half = halfLength(n);
+            mergeSortByKey(keys, order, SortingUtils.newBuffer(half), new int[half], 0, n - 1, comparator);
+        }
+        return order;
+    }
+
+    /**
+     * Returns the stable sorting permutation of {@code long} keys, sorting the keys along the way.
+     */
+    private static int[] sortedOrder(@NotNull final long[] keys) {
+        final int n = keys.length;
+        final int[] order = SortingUtils.identity(n);
+        if (n > 1) {
+            final int half = halfLength(n);
+            mergeSortByKey(keys, order, new long[half], new int[half], 0, n - 1);
+        }
+        return order;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Adaptive ==========
+
+    /**
+     * Natural-run merge sort in the style of TimSort.
+     * <p>
+     * The range is scanned for ascending or strictly descending runs (the latter are reversed
+     * in place, which keeps the sort stable). Runs shorter than {@code minRun} are extended
+     * with binary insertion sort. Runs are pushed on a stack whose lengths are kept roughly
+     * Fibonacci-shaped, so merges stay balanced. Merges first trim the elements that are
+     * already in place and then switch to galloping once one side keeps winning.
+     * </p>
+     */
+    private static final class RunMerger<T> {
+        /**
+         * Ranges shorter than this are sorted as a single binary-insertion run.
+         */
+        private static final int MIN_MERGE = 32;
+
+        /**
+         * Initial number of consecutive wins before a merge starts galloping.
+         */
+        private static final int MIN_GALLOP = 7;
+
+        private final T[] array;
+        private final Comparator<T> comparator;
+        private final int[] runBase = new int[49];
+        private final int[] runLength = new int[49];
+        private int stackSize;
+        private int minGallop = MIN_GALLOP;
+        private T[] buffer;
+
+        RunMerger(final T[] array, final Comparator<T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Sorts array[low..high].
+         */
+        void sort(int low, final int high) {
+            int remaining = high - low + 1;
+            if (remaining < 2) {
+                return;
+            }
+
+            final int minRun = minRunLength(remaining);
+            do {
+                int run = countRunAndMakeAscending(low, high);
+
+                // Extend short runs to minRun with binary insertion sort
+                if (run < minRun) {
+                    final int forced = Math.min(remaining, minRun);
+                    InsertionSort.binaryInsertionSort(array, low, low + forced - 1, low + run, comparator);
+                    run = forced;
+                }
+
+                runBase[stackSize] = low;
+                runLength[stackSize] = run;
+                stackSize++;
+                mergeCollapse();
+
+                low += run;
+                remaining -= run;
+            } while (remaining != 0);
+
+            // Merge all remaining runs
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Returns the minimum run length: n itself below MIN_MERGE, otherwise a value in
+         * [MIN_MERGE / 2, MIN_MERGE] such that n / minRun is close to a power of two.
+         */
+        private static int minRunLength(int n) {
+            int lowBits = 0;
+            while (n >= MIN_MERGE) {
+                lowBits |= n & 1;
+                n >>= 1;
+            }
+            return n + lowBits;
+        }
+
+        /**
+         * Returns the length of the run starting at low, reversing it first if it is
+         * strictly descending.
+         */
+        private int countRunAndMakeAscending(final int low, final int high) {
+            int end = low + 1;
+            if (end > high) {
+                return 1;
+            }
+
+            if (comparator.compare(array[end++], array[low]) < 0) {
+                while (end <= high && comparator.compare(array[end], array[end - 1]) < 0) {
+                    end++;
+                }
+                reverse(low, end - 1);
+            } else {
+                while (end <= high && comparator.compare(array[end], array[end - 1]) >= 0) {
+                    end++;
+                }
+            }
+
+            return end - low;
+        }
+
+        private void reverse(int low, int high) {
+            while (low < high) {
+                final T temp = array[low];
+                array[low++] = array[high];
+                array[high--] = temp;
+            }
+        }
+
+        /**
+         * Merges runs until the stack invariants hold again:
+         * len[i - 2] &gt; len[i - 1] + len[i] and len[i - 1] &gt; len[i].
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    return;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack positions i and i + 1.
+         */
+        private void mergeAt(final int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            final int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Runs are already in order, nothing to merge
+            if (comparator.compare(array[base2 - 1], array[base2]) <= 0) {
+                return;
+            }
+
+            // Elements of run 1 that are not greater than run 2's first are already in place
+            final int skip = gallopRight(array[base2], array, base1, length1, 0);
+            base1 += skip;
+            length1 -= skip;
+
+            // Elements of run 2 that are not less than run 1's last are already in place
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1);
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs left to right, buffering run 1 (the shorter one).
+         */
+        private void mergeLow(final int base1, final int length1, final int base2, final int length2) {
+            final T[] temp = ensureBuffer(length1);
+            System.arraycopy(array, base1, temp, 0, length1);
+
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+            final int end2 = base2 + length2;
+            int wins1 = 0;
+            int wins2 = 0;
+
+            while (cursor1 < length1 && cursor2 < end2) {
+                if (wins1 >= minGallop || wins2 >= minGallop) {
+                    // Galloping: copy whole blocks found by exponential search
+                    final int count1 = gallopRight(array[cursor2], temp, cursor1, length1 - cursor1, 0);
+                    System.arraycopy(temp, cursor1, array, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    if (cursor1 == length1) {
+                        break;
+                    }
+
+                    final int count2 = gallopLeft(temp[cursor1], array, cursor2, end2 - cursor2, 0);
+                    System.arraycopy(array, cursor2, array, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+
+                    if (!keepGalloping(count1, count2)) {
+                        wins1 = wins2 = 0;
+                    }
+                } else if (comparator.compare(array[cursor2], temp[cursor1]) < 0) {
+                    array[dest++] = array[cursor2++];
+                    wins2++;
+                    wins1 = 0;
+                } else {
+                    // Ties take from run 1 to keep the merge stable
+                    array[dest++] = temp[cursor1++];
+                    wins1++;
+                    wins2 = 0;
+                }
+            }
+
+            // Remaining run 2 elements are already in place
+            if (cursor1 < length1) {
+                System.arraycopy(temp, cursor1, array, dest, length1 - cursor1);
+            }
+            clear(temp, length1);
+        }
+
+        /**
+         * Merges two adjacent runs right to left, buffering run 2 (the shorter one).
+         */
+        private void mergeHigh(final int base1, final int length1, final int base2, final int length2) {
+            final T[] temp = ensureBuffer(length2);
+            System.arraycopy(array, base2, temp, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+            int wins1 = 0;
+            int wins2 = 0;
+
+            while (cursor1 >= base1 && cursor2 >= 0) {
+                if (wins1 >= minGallop || wins2 >= minGallop) {
+                    // Galloping: move whole blocks found by exponential search
+                    final int remaining2 = cursor2 + 1;
+                    final int count2 = remaining2 - gallopLeft(array[cursor1], temp, 0, remaining2, cursor2);
+                    dest -= count2;
+                    cursor2 -= count2;
+                    System.arraycopy(temp, cursor2 + 1, array, dest + 1, count2);
+                    if (cursor2 < 0) {
+                        break;
+                    }
+
+                    final int remaining1 = cursor1 - base1 + 1;
+                    final int count1 = remaining1
+                            - gallopRight(temp[cursor2], array, base1, remaining1, remaining1 - 1);
+                    dest -= count1;
+                    cursor1 -= count1;
+                    System.arraycopy(array, cursor1 + 1, array, dest + 1, count1);
+
+                    if (!keepGalloping(count1, count2)) {
+                        wins1 = wins2 = 0;
+                    }
+                } else if (comparator.compare(temp[cursor2], array[cursor1]) < 0) {
+                    array[dest--] = array[cursor1--];
+                    wins1++;
+                    wins2 = 0;
+                } else {
+                    // Ties place run 2 last to keep the merge stable
+                    array[dest--] = temp[cursor2--];
+                    wins2++;
+                    wins1 = 0;
+                }
+            }
+
+            // Remaining run 1 elements are already in place
+            if (cursor2 >= 0) {
+                System.arraycopy(temp, 0, array, dest - cursor2, cursor2 + 1);
+            }
+            clear(temp, length2);
+        }
+
+        /**
+         * Decides whether to stay in galloping mode after a round that copied the given block
+         * sizes. Galloping becomes easier to enter when it pays off and harder when it does not.
+         */
+        private boolean keepGalloping(final int count1, final int count2) {
+            if (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP) {
+                minGallop = Math.max(1, minGallop - 1);
+                return true;
+            }
+            minGallop++;
+            return false;
+        }
+
+        /**
+         * Returns the leftmost position in source[base..base + length - 1] at which key could be
+         * inserted, searching exponentially outwards from {@code hint}.
+         */
+        private int gallopLeft(final T key, final T[] source, final int base, final int length, final int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+
+            if (comparator.compare(key, source[base + hint]) > 0) {
+                // Gallop right until source[base + hint + lastOffset] < key <= source[base + hint + offset]
+                final int maxOffset = length - hint;
+                while (offset < maxOffset && comparator.compare(key, source[base + hint + offset]) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                // Gallop left until source[base + hint - offset] < key <= source[base + hint - lastOffset]
+                final int maxOffset = hint + 1;
+                while (offset < maxOffset && comparator.compare(key, source[base + hint - offset]) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                final int previous = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - previous;
+            }
+
+            // Binary search in (lastOffset, offset]
+            lastOffset++;
+            while (lastOffset < offset) {
+                final int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (comparator.compare(key, source[base + mid]) > 0) {
+                    lastOffset = mid + 1;
+                } else {
+                    offset = mid;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Returns the rightmost position in source[base..base + length - 1] at which key could be
+         * inserted, searching exponentially outwards from {@code hint}.
+         */
+        private int gallopRight(final T key, final T[] source, final int base, final int length, final int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+
+            if (comparator.compare(key, source[base + hint]) < 0) {
+                // Gallop left until source[base + hint - offset] <= key < source[base + hint - lastOffset]
+                final int maxOffset = hint + 1;
+                while (offset < maxOffset && comparator.compare(key, source[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                final int previous = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - previous;
+            } else {
+                // Gallop right until source[base + hint + lastOffset] <= key < source[base + hint + offset]
+                final int maxOffset = length - hint;
+                while (offset < maxOffset && comparator.compare(key, source[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            }
+
+            // Binary search in (lastOffset, offset]
+            lastOffset++;
+            while (lastOffset < offset) {
+                final int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (comparator.compare(key, source[base + mid]) < 0) {
+                    offset = mid;
+                } else {
+                    lastOffset = mid + 1;
+                }
+            }
+            return offset;
+        }
+
+        private T[] ensureBuffer(final int length) {
+            if (buffer == null || buffer.length < length) {
+                buffer = SortingUtils.newBuffer(Math.max(length, Math.min(array.length >>> 1, 256)));
+            }
+            return buffer;
+        }
+
+        private static void clear(final Object[] temp, final int length) {
+            Arrays.fill(temp, 0, length, null);
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Parallel ==========
+
+    private static void checkThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+    }
+
+    /**
+     * Runs the parallel sort of the whole array, falling back to a sequential sort
+     * when the array is too small or the pool cannot run tasks concurrently.
+     */
+    private static <T> void parallelSortArray(@NotNull final T[] array,
+                                              @NotNull final Comparator<T> comparator,
+                                              @NotNull final ForkJoinPool pool,
+                                              final int threshold) {
+        final T[] buffer = SortingUtils.newBuffer(array.length);
+
+        if (array.length <= threshold || pool.getParallelism() <= 1) {
+            mergeSortRecursive(array, buffer, 0, 0, array.length - 1, comparator);
+            return;
+        }
+
+        pool.invoke(new SortTask<>(array, buffer, 0, array.length - 1, false, comparator, threshold));
+    }
+
+    /**
+     * Returns the first index in array[low..high] whose element is not less than key,
+     * or high + 1 if there is none.
+     */
+    private static <T> int lowerBound(@NotNull final T[] array,
+                                      int low,
+                                      int high,
+                                      final T key,
+                                      @NotNull final Comparator<T> comparator) {
+        while (low <= high) {
+            final int mid = low + (high - low) / 2;
+            if (comparator.compare(array[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first index in array[low..high] whose element is greater than key,
+     * or high + 1 if there is none.
+     */
+    private static <T> int upperBound(@NotNull final T[] array,
+                                      int low,
+                                      int high,
+                                      final T key,
+                                      @NotNull final Comparator<T> comparator) {
+        while (low <= high) {
+            final int mid = low + (high - low) / 2;
+            if (comparator.compare(array[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts array[low..high] in parallel.
+     * <p>
+     * The two halves are sorted into the opposite array from the one that must hold the
+     * result, so every merge reads from one array and writes into the other without an
+     * extra copy. When {@code intoBuffer} is set the sorted range ends up in the buffer.
+     * </p>
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int low;
+        private final int high;
+        private final boolean intoBuffer;
+        private final Comparator<T> comparator;
+        private final int threshold;
+
+        SortTask(final T[] array,
+                 final T[] buffer,
+                 final int low,
+                 final int high,
+                 final boolean intoBuffer,
+                 final Comparator<T> comparator,
+                 final int threshold) {
+            this.array = array;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.intoBuffer = intoBuffer;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low + 1 <= threshold) {
+                // Each leaf uses the buffer slots of its own range, so leaves never overlap
+                mergeSortRecursive(array, buffer, low, low, high, comparator);
+                if (intoBuffer) {
+                    System.arraycopy(array, low, buffer, low, high - low + 1);
+                }
+                return;
+            }
+
+            final int mid = low + (high - low) / 2;
+            invokeAll(new SortTask<>(array, buffer, low, mid, !intoBuffer, comparator, threshold),
+                    new SortTask<>(array, buffer, mid + 1, high, !intoBuffer, comparator, threshold));
+
+            final T[] source = intoBuffer ? array : buffer;
+            final T[] target = intoBuffer ? buffer : array;
+            new MergeTask<>(source, low, mid, mid + 1, high, target, low, comparator, threshold).compute();
+        }
+    }
+
+    /**
+     * Merges two sorted runs in parallel.
+     * <p>
+     * The longer run is split at its middle element and the matching split point in the
+     * shorter run is found by binary search, giving two independent merges. Elements equal
+     * to the split key are routed so that left-run elements still precede right-run ones.
+     * </p>
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+        private final T[] source;
+        private final int lowLeft;
+        private final int highLeft;
+        private final int lowRight;
+        private final int highRight;
+        private final T[] target;
+        private final int out;
+        private final Comparator<T> comparator;
+        private final int threshold;
+
+        MergeTask(final T[] source,
+                  final int lowLeft,
+                  final int highLeft,
+                  final int lowRight,
+                  final int highRight,
+                  final T[] target,
+                  final int out,
+                  final Comparator<T> comparator,
+                  final int threshold) {
+            this.source = source;
+            this.lowLeft = lowLeft;
+            this.highLeft = highLeft;
+            this.lowRight = lowRight;
+            this.highRight = highRight;
+            this.target = target;
+            this.out = out;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftSize = highLeft - lowLeft + 1;
+            final int rightSize = highRight - lowRight + 1;
+
+            // Two single elements cannot be split any further
+            if (leftSize == 0 || rightSize == 0 || leftSize + rightSize <= Math.max(threshold, 2)) {
+                mergeRuns(source, lowLeft, highLeft, lowRight, highRight, target, out, comparator);
+                return;
+            }
+
+            final int splitLeft;
+            final int splitRight;
+            if (leftSize >= rightSize) {
+                // Right elements equal to the key must follow it
+                splitLeft = lowLeft + leftSize / 2;
+                splitRight = lowerBound(source, lowRight, highRight, source[splitLeft], comparator);
+            } else {
+                // Left elements equal to the key must precede it
+                splitRight = lowRight + rightSize / 2;
+                splitLeft = upperBound(source, lowLeft, highLeft, source[splitRight], comparator);
+            }
+
+            final int split = out + (splitLeft - lowLeft) + (splitRight - lowRight);
+            invokeAll(new MergeTask<>(source, lowLeft, splitLeft - 1, lowRight, splitRight - 1,
+                            target, out, comparator, threshold),
+                    new MergeTask<>(source, splitLeft, highLeft, splitRight, highRight,
+                            target, split, comparator, threshold));
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Primitive Kernels ==========
+
+    /**
+     * Sorts array[low..high] of {@code int} values using top-down merge sort.
+     */
+    private static void mergeSort(@NotNull final int[] array, final int low, final int high) {
+        if (high > low) {
+            mergeSortRecursive(array, new int[halfLength(high - low + 1)], low, high);
+        }
+    }
+
+    private static void mergeSortRecursive(@NotNull final int[] array,
+                                           @NotNull final int[] buffer,
+                                           final int low,
+                                           final int high) {
+        if (high - low < SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, low, mid);
+        mergeSortRecursive(array, buffer, mid + 1, high);
+        merge(array, buffer, low, mid, high);
+    }
+
+    private static void merge(@NotNull final int[] array,
+                              @NotNull final int[] buffer,
+                              final int low,
+                              final int mid,
+                              final int high) {
+        // Halves are already in order, nothing to merge
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        // Only the left half is copied out; the right half is merged in place
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            array[k++] = array[j] < buffer[i] ? array[j++] : buffer[i++];
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values using top-down merge sort.
+     */
+    private static void mergeSort(@NotNull final long[] array, final int low, final int high) {
+        if (high > low) {
+            mergeSortRecursive(array, new long[halfLength(high - low + 1)], low, high);
+        }
+    }
+
+    private static void mergeSortRecursive(@NotNull final long[] array,
+                                           @NotNull final long[] buffer,
+                                           final int low,
+                                           final int high) {
+        if (high - low < SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, low, mid);
+        mergeSortRecursive(array, buffer, mid + 1, high);
+        merge(array, buffer, low, mid, high);
+    }
+
+    private static void merge(@NotNull final long[] array,
+                              @NotNull final long[] buffer,
+                              final int low,
+                              final int mid,
+                              final int high) {
+        // Halves are already in order, nothing to merge
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        // Only the left half is copied out; the right half is merged in place
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            array[k++] = array[j] < buffer[i] ? array[j++] : buffer[i++];
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values using top-down merge sort.
+     */
+    private static void mergeSort(@NotNull final short[] array, final int low, final int high) {
+        if (high > low) {
+            mergeSortRecursive(array, new short[halfLength(high - low + 1)], low, high);
+        }
+    }
+
+    private static void mergeSortRecursive(@NotNull final short[] array,
+                                           @NotNull final short[] buffer,
+                                           final int low,
+                                           final int high) {
+        if (high - low < SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, low, mid);
+        mergeSortRecursive(array, buffer, mid + 1, high);
+        merge(array, buffer, low, mid, high);
+    }
+
+    private static void merge(@NotNull final short[] array,
+                              @NotNull final short[] buffer,
+                              final int low,
+                              final int mid,
+                              final int high) {
+        // Halves are already in order, nothing to merge
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        // Only the left half is copied out; the right half is merged in place
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            array[k++] = array[j] < buffer[i] ? array[j++] : buffer[i++];
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values using top-down merge sort.
+     */
+    private static void mergeSort(@NotNull final char[] array, final int low, final int high) {
+        if (high > low) {
+            mergeSortRecursive(array, new char[halfLength(high - low + 1)], low, high);
+        }
+    }
+
+    private static void mergeSortRecursive(@NotNull final char[] array,
+                                           @NotNull final char[] buffer,
+                                           final int low,
+                                           final int high) {
+        if (high - low < SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, low, mid);
+        mergeSortRecursive(array, buffer, mid + 1, high);
+        merge(array, buffer, low, mid, high);
+    }
+
+    private static void merge(@NotNull final char[] array,
+                              @NotNull final char[] buffer,
+                              final int low,
+                              final int mid,
+                              final int high) {
+        // Halves are already in order, nothing to merge
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        // Only the left half is copied out; the right half is merged in place
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            array[k++] = array[j] < buffer[i] ? array[j++] : buffer[i++];
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values using top-down merge sort.
+     */
+    private static void mergeSort(@NotNull final float[] array, final int low, final int high) {
+        if (high > low) {
+            mergeSortRecursive(array, new float[halfLength(high - low + 1)], low, high);
+        }
+    }
+
+    private static void mergeSortRecursive(@NotNull final float[] array,
+                                           @NotNull final float[] buffer,
+                                           final int low,
+                                           final int high) {
+        if (high - low < SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, low, mid);
+        mergeSortRecursive(array, buffer, mid + 1, high);
+        merge(array, buffer, low, mid, high);
+    }
+
+    private static void merge(@NotNull final float[] array,
+                              @NotNull final float[] buffer,
+                              final int low,
+                              final int mid,
+                              final int high) {
+        // Halves are already in order, nothing to merge
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        // Only the left half is copied out; the right half is merged in place
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            array[k++] = array[j] < buffer[i] ? array[j++] : buffer[i++];
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, leftLength - i);
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values using top-down merge sort.
+     */
+    private static void mergeSort(@NotNull final double[] array, final int low, final int high) {
+        if (high > low) {
+            mergeSortRecursive(array, new double[halfLength(high - low + 1)], low, high);
+        }
+    }
+
+    private static void mergeSortRecursive(@NotNull final double[] array,
+                                           @NotNull final double[] buffer,
+                                           final int low,
+                                           final int high) {
+        if (high - low < SortingNetworks.MAX_LENGTH) {
+            SortingNetworks.networkSort(array, low, high);
+            return;
+        }
+
+        final int mid = low + (high - low) / 2;
+        mergeSortRecursive(array, buffer, low, mid);
+        mergeSortRecursive(array, buffer, mid + 1, high);
+        merge(array, buffer, low, mid, high);
+    }
+
+    private static void merge(@NotNull final double[] array,
+                              @NotNull final double[] buffer,
+                              final int low,
+                              final int mid,
+                              final int high) {
+        // Halves are already in order, nothing to merge
+        if (array[mid] <= array[mid + 1]) {
+            return;
+        }
+
+        // Only the left half is copied out; the right half is merged in place
+        final int leftLength = mid - low + 1;
+        System.arraycopy(array, low, buffer, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        while (i < leftLength && j <= high) {
+            array[k++] = array[j] < buffer[i] ? array[j++] : buffer[i++];
+        }
+
+        // Leftover right elements are already in place
+        System.arraycopy(buffer, i, array, k, leftLength - i);
     }
 }
\ No newline at end of file
@@ -0,0 +1,407 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Utilities for applying index permutations, such as those returned by
+ * {@link MergeSort#argsort(Object[], Comparator)} and {@link QuickSort#argsort(Object[], Comparator)}.
+ * <p>
+ * A permutation {@code order} of length n holds every index in [0, n) exactly once. Applying it
+ * to an array moves the element at {@code order[i]} to position i, so applying the result of an
+ * argsort sorts the array, and applying the same permutation to other arrays of the same length
+ * reorders them alongside it. This is how one sort order is shared by many columns.
+ * </p>
+ * <p>
+ * Arrays are permuted in place by following the cycles of the permutation, using O(1) extra
+ * memory: each element is moved exactly once and only one element per cycle is held aside.
+ * Cycles are tracked by temporarily complementing the entries of {@code order}, which are
+ * restored before returning. The permutation array must therefore not be read by other threads
+ * while it is being applied.
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class Permutations {
+
+    private Permutations() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // ========== PUBLIC API ==========
+
+    /**
+     * Reorders the list so that position i receives the element previously at {@code order[i]}.
+     * <p>
+     * Lists that implement {@link RandomAccess} are permuted in place through
+     * {@link List#set(int, Object)}. Other lists are copied into an array, permuted, and
+     * written back in a single pass.
+     * </p>
+     *
+     * @param <T>   the type of elements
+     * @param list  the list to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the list or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, list.size())
+     */
+    public static <T> void apply(@NotNull final List<T> list, @NotNull final int[] order) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, list.size());
+
+        if (list instanceof RandomAccess) {
+            permute(list, order);
+        } else {
+            SortingUtils.sortThroughArray(list, array -> permute(array, order));
+        }
+    }
+
+    /**
+     * Reorders the array in place so that position i receives the element previously at
+     * {@code order[i]}.
+     *
+     * @param <T>   the type of elements
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static <T> void apply(@NotNull final T[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    /**
+     * Reorders the array of {@code int} values in place so that position i receives the value
+     * previously at {@code order[i]}.
+     *
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static void apply(@NotNull final int[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    /**
+     * Reorders the array of {@code long} values in place so that position i receives the value
+     * previously at {@code order[i]}.
+     *
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static void apply(@NotNull final long[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    /**
+     * Reorders the array of {@code short} values in place so that position i receives the value
+     * previously at {@code order[i]}.
+     *
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static void apply(@NotNull final short[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    /**
+     * Reorders the array of {@code char} values in place so that position i receives the value
+     * previously at {@code order[i]}.
+     *
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static void apply(@NotNull final char[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    /**
+     * Reorders the array of {@code float} values in place so that position i receives the value
+     * previously at {@code order[i]}.
+     *
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static void apply(@NotNull final float[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    /**
+     * Reorders the array of {@code double} values in place so that position i receives the value
+     * previously at {@code order[i]}.
+     *
+     * @param array the array to reorder
+     * @param order the permutation to apply
+     * @throws NullPointerException     if the array or permutation is null
+     * @throws IllegalArgumentException if order is not a permutation of [0, array.length)
+     */
+    public static void apply(@NotNull final double[] array, @NotNull final int[] order) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(order, "Permutation cannot be null");
+        checkPermutation(order, array.length);
+        permute(array, order);
+    }
+
+    // ========== INTERNAL API ==========
+
+    /**
+     * Applies a permutation that is known to be valid, without checking it. The primitive
+     * overloads below work the same way.
+     * <p>
+     * Each cycle is followed once, holding its first element aside. Visited entries of
+     * {@code order} are complemented and restored at the end.
+     * </p>
+     */
+    static <T> void permute(@NotNull final T[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final T first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    static void permute(@NotNull final int[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final int first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    static void permute(@NotNull final long[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final long first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    static void permute(@NotNull final short[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final short first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    static void permute(@NotNull final char[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final char first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    static void permute(@NotNull final float[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final float first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    static void permute(@NotNull final double[] array, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final double first = array[start];
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                array[current] = array[next];
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            array[current] = first;
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Checks that order holds every index in [0, length) exactly once.
+     * <p>
+     * Seen indices are marked by complementing the entry at that index, so the check needs no
+     * extra memory. All marks are removed before returning or throwing.
+     * </p>
+     */
+    private static void checkPermutation(@NotNull final int[] order, final int length) {
+        if (order.length != length) {
+            throw new IllegalArgumentException(
+                    "Permutation length " + order.length + " does not match length " + length);
+        }
+
+        for (final int index : order) {
+            if (index < 0 || index >= length) {
+                throw new IllegalArgumentException("Permutation index out of range: " + index);
+            }
+        }
+
+        for (final int entry : order) {
+            final int index = entry < 0 ? ~entry : entry;
+            if (order[index] < 0) {
+                restore(order);
+                throw new IllegalArgumentException("Permutation repeats index " + index);
+            }
+            order[index] = ~order[index];
+        }
+
+        restore(order);
+    }
+
+    /**
+     * Removes the complement marks from order.
+     */
+    private static void restore(@NotNull final int[] order) {
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] < 0) {
+                order[i] = ~order[i];
+            }
+        }
+    }
+
+    /**
+     * Applies a valid permutation to a random-access list through get and set.
+     */
+    private static <T> void permute(@NotNull final List<T> list, @NotNull final int[] order) {
+        for (int start = 0; start < order.length; start++) {
+            if (order[start] < 0) {
+                continue;
+            }
+
+            final T first = list.get(start);
+            int current = start;
+            int next = order[start];
+            while (next != start) {
+                list.set(current, list.get(next));
+                order[current] = ~next;
+                current = next;
+                next = order[current];
+            }
+            list.set(current, first);
+            order[current] = ~start;
+        }
+
+        restore(order);
+    }
+}
\ No newline at end of file
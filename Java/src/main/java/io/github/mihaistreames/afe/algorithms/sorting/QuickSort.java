@@ -3,6 +3,8 @@ package io.github.mihaistreames.afe.algorithms.sorting;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implementation of the QuickSort algorithm.
@@ -12,8 +14,14 @@ import java.util.*;
  * sub-arrays on either side of the pivot.
  * </p>
  * <p>
- * <strong>Time Complexity:</strong> O(n log n) average case, O(n²) worst case<br>
- * <strong>Space Complexity:</strong> O(log n) average case (recursion stack)<br>
+ * This implementation is an introsort: pivots are chosen by median-of-three (or Tukey's
+ * ninther on large ranges), small ranges are finished with {@link InsertionSort} (or a
+ * {@link SortingNetworks sorting network} for primitives), and ranges that exceed the
+ * recursion depth limit fall back to {@link HeapSort}.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(n log n) average and worst case<br>
+ * <strong>Space Complexity:</strong> O(log n) (recursion stack)<br>
  * <strong>Stability:</strong> Not stable - may change relative order of equal elements<br>
  * <strong>In-place:</strong> Yes - sorts in-place with minimal extra space
  * </p>
@@ -24,6 +32,22 @@ import java.util.*;
  */
 public final class QuickSort {
 
+    /**
+     * Default range size below which {@code parallelSort} stops splitting work into tasks.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Ranges of at most this many elements are sorted with insertion sort, or with a sorting
+     * network for primitives. Must not exceed {@link SortingNetworks#MAX_LENGTH}.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = SortingNetworks.MAX_LENGTH;
+
+    /**
+     * Ranges larger than this use Tukey's ninther instead of median-of-three for the pivot.
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
     private QuickSort() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -33,8 +57,8 @@ public final class QuickSort {
     /**
      * Sorts the list in ascending natural order using quicksort.
      * <p>
-     * The list elements must implement {@link Comparable}. The list is shuffled
-     * before sorting to avoid worst-case O(n²) performance on already sorted inputs.
+     * The list elements must implement {@link Comparable}. The sort is deterministic
+     * and runs in guaranteed O(n log n) time.
      * </p>
      *
      * @param <T>  the type of elements, must extend {@link Comparable}
@@ -49,8 +73,8 @@ public final class QuickSort {
     /**
      * Sorts the list using the provided comparator and quicksort.
      * <p>
-     * The list is shuffled before sorting to avoid worst-case O(n²) performance
-     * on already sorted inputs.
+     * The list is copied into an array, sorted, and written back in a single pass.
+     * The sort is deterministic and runs in guaranteed O(n log n) time.
      * </p>
      *
      * @param <T>        the type of elements
@@ -66,9 +90,101 @@ public final class QuickSort {
             return;
         }
 
-        // Shuffle to avoid worst-case performance on sorted inputs
-        Collections.shuffle(list);
-        quickSortRecursive(list, 0, list.size() - 1, comparator);
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using quicksort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and quicksort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
+            return;
+        }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
+    }
+
+    /**
+     * Sorts the list in ascending natural order using quicksort with three-way partitioning.
+     * <p>
+     * The list elements must implement {@link Comparable}. Every partition step gathers the
+     * elements equal to the pivot into a middle block that is never visited again, so inputs
+     * with few distinct keys sort in close to linear time.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to sort
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> void sortThreeWay(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sortThreeWay(list, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and quicksort with three-way partitioning.
+     * <p>
+     * Elements comparing equal to the pivot are gathered into a middle block that is excluded
+     * from further partitioning. Prefer this over {@link #sort(List, Comparator)} when the keys
+     * are heavily duplicated.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> void sortThreeWay(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortThreeWay(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -76,8 +192,8 @@ public final class QuickSort {
     /**
      * Sorts the array in ascending natural order using quicksort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array elements must implement {@link Comparable}. The array is sorted
+     * in place in guaranteed O(n log n) time.
      * </p>
      *
      * @param <T>   the type of elements, must extend {@link Comparable}
@@ -86,15 +202,13 @@ public final class QuickSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and quicksort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place in guaranteed O(n log n) time.
      * </p>
      *
      * @param <T>        the type of elements
@@ -105,71 +219,1726 @@ public final class QuickSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+        introSort(array, 0, array.length - 1, comparator);
     }
 
-    // ========== PRIVATE IMPLEMENTATION ==========
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using quicksort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
 
     /**
-     * Recursively sorts the specified portion of the list using quicksort.
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and quicksort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
      */
-    private static <T> void quickSortRecursive(@NotNull final List<T> list,
-                                               final int low,
-                                               final int high,
-                                               @NotNull final Comparator<T> comparator) {
-        if (high <= low) {
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    /**
+     * Sorts the array in ascending natural order using quicksort with three-way partitioning.
+     * <p>
+     * The array elements must implement {@link Comparable}. Every partition step gathers the
+     * elements equal to the pivot into a middle block that is never visited again, so inputs
+     * with few distinct keys sort in close to linear time.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> void sortThreeWay(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sortThreeWay(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and quicksort with three-way partitioning.
+     * <p>
+     * Elements comparing equal to the pivot are gathered into a middle block that is excluded
+     * from further partitioning.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> void sortThreeWay(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        if (array.length <= 1) {
             return;
         }
 
-        final int pivotIndex = partition(list, low, high, comparator);
-        quickSortRecursive(list, low, pivotIndex - 1, comparator);
-        quickSortRecursive(list, pivotIndex + 1, high, comparator);
+        introSortThreeWay(array, 0, array.length - 1, depthLimit(array.length), comparator);
     }
 
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
     /**
-     * Partitions the list around a pivot element using the Hoare partition scheme.
+     * Sorts the array of {@code int} values into ascending numerical order using quicksort.
      * <p>
-     * After partitioning, all elements smaller than the pivot are to its left,
-     * and all elements greater than or equal to the pivot are to its right.
+     * The array is sorted in place without boxing or allocation.
      * </p>
      *
-     * @return the final position of the pivot element
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
      */
-    private static <T> int partition(@NotNull final List<T> list,
-                                     final int low,
-                                     final int high,
-                                     @NotNull final Comparator<T> comparator) {
-        final T pivot = list.get(low);  // Use first element as pivot
-        int i = low;
-        int j = high + 1;
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        introSort(array, 0, array.length - 1);
+    }
 
-        while (true) {
-            // Find element on left side greater than or equal to pivot
-            while (comparator.compare(list.get(++i), pivot) < 0) {
-                if (i == high) {
-                    break;
-                }
-            }
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using quicksort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        introSort(array, 0, array.length - 1);
+    }
 
-            // Find element on right side less than or equal to pivot
-            while (comparator.compare(pivot, list.get(--j)) < 0) {
-                if (j == low) {
-                    break;
-                }
-            }
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using quicksort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        introSort(array, 0, array.length - 1);
+    }
 
-            // Check if pointers cross
-            if (i >= j) {
-                break;
-            }
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using quicksort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        introSort(array, 0, array.length - 1);
+    }
 
-            // Swap elements at i and j
-            Collections.swap(list, i, j);
-        }
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using quicksort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1, QuickSort::introSort);
+    }
 
-        // Put pivot in its final position
-        Collections.swap(list, low, j);
-        return j;
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using quicksort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1, QuickSort::introSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using quicksort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using quicksort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code short} values into ascending
+     * numerical order using quicksort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final short[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code char} values into ascending
+     * numerical order using quicksort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final char[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        introSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using quicksort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, QuickSort::introSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using quicksort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, QuickSort::introSort);
+    }
+
+    // ========== PUBLIC API - Argsort Operations ==========
+
+    /**
+     * Returns the permutation that sorts the list in ascending natural order, using quicksort.
+     * <p>
+     * The list is not modified. Element {@code order[i]} of the list is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other list or array of
+     * the same length. The order is not stable: equal elements may appear in any order.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to order
+     * @return the sorting permutation, a new array of length {@code list.size()}
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> int[] argsort(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return argsort(list, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the permutation that sorts the list according to the comparator, using quicksort.
+     * <p>
+     * The list is not modified. Element {@code order[i]} of the list is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other list or array of
+     * the same length. The order is not stable: equal elements may appear in any order.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to order
+     * @param comparator the comparator to determine element order
+     * @return the sorting permutation, a new array of length {@code list.size()}
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> int[] argsort(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return sortedOrder(SortingUtils.toArray(list), comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the array in ascending natural order, using quicksort.
+     * <p>
+     * The array is not modified. Element {@code order[i]} of the array is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other array of the
+     * same length. The order is not stable: equal elements may appear in any order.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> int[] argsort(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return argsort(array, Comparable::compareTo);
+    }
+
+    /**
+     * Returns the permutation that sorts the array according to the comparator, using quicksort.
+     * <p>
+     * The array is not modified. Element {@code order[i]} of the array is the i-th smallest;
+     * pass the result to {@link Permutations} to reorder this or any other array of the
+     * same length. The order is not stable: equal elements may appear in any order.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to order
+     * @param comparator the comparator to determine element order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> int[] argsort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        final T[] keys = SortingUtils.newBuffer(array.length);
+        System.arraycopy(array, 0, keys, 0, array.length);
+        return sortedOrder(keys, comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code int} values into ascending
+     * numerical order, using quicksort.
+     * <p>
+     * The array is not modified. The order is not stable: equal values may appear in any order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code long} values into ascending
+     * numerical order, using quicksort.
+     * <p>
+     * The array is not modified. The order is not stable: equal values may appear in any order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code short} values into ascending
+     * numerical order, using quicksort.
+     * <p>
+     * The array is not modified. The order is not stable: equal values may appear in any order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code char} values into ascending
+     * numerical order, using quicksort.
+     * <p>
+     * The array is not modified. The order is not stable: equal values may appear in any order.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code float} values into ascending
+     * numerical order, using quicksort.
+     * <p>
+     * The array is not modified. The order is not stable: equal values may appear in any order.
+     * Values are ordered like {@link Float#compare(float, float)}: NaN last and negative zero first.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    /**
+     * Returns the permutation that sorts the array of {@code double} values into ascending
+     * numerical order, using quicksort.
+     * <p>
+     * The array is not modified. The order is not stable: equal values may appear in any order.
+     * Values are ordered like {@link Double#compare(double, double)}: NaN last and negative zero first.
+     * </p>
+     *
+     * @param array the array to order
+     * @return the sorting permutation, a new array of length {@code array.length}
+     * @throws NullPointerException if the array is null
+     */
+    public static int[] argsort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return sortedOrder(SortingUtils.orderedKeys(array));
+    }
+
+    // ========== PUBLIC API - Parallel Operations ==========
+
+    /**
+     * Sorts the list in ascending natural order using parallel quicksort.
+     * <p>
+     * The list elements must implement {@link Comparable}. The work is split across the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to sort
+     * @throws NullPointerException if the list is null
+     */
+    public static <T extends Comparable<T>> void parallelSort(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        parallelSort(list, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and parallel quicksort.
+     * <p>
+     * The work is split across the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the list or comparator is null
+     */
+    public static <T> void parallelSort(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        parallelSort(list, comparator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and parallel quicksort on the given pool.
+     * <p>
+     * Uses the {@link #DEFAULT_PARALLEL_THRESHOLD default threshold}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @throws NullPointerException if the list, comparator or pool is null
+     */
+    public static <T> void parallelSort(@NotNull final List<T> list,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool) {
+        parallelSort(list, comparator, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and parallel quicksort on the given pool.
+     * <p>
+     * The list is copied into an array, sorted in parallel, and written back in a single pass.
+     * Ranges of at most {@code threshold} elements are sorted sequentially.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @param threshold  the range size below which work is done sequentially
+     * @throws NullPointerException     if the list, comparator or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     */
+    public static <T> void parallelSort(@NotNull final List<T> list,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool,
+                                        final int threshold) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> parallelSortArray(array, comparator, pool, threshold));
+    }
+
+    /**
+     * Sorts the array in ascending natural order using parallel quicksort.
+     * <p>
+     * The array elements must implement {@link Comparable}. The work is split across the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static <T extends Comparable<T>> void parallelSort(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        parallelSort(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and parallel quicksort.
+     * <p>
+     * The work is split across the {@link ForkJoinPool#commonPool() common pool}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array or comparator is null
+     */
+    public static <T> void parallelSort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        parallelSort(array, comparator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and parallel quicksort on the given pool.
+     * <p>
+     * Uses the {@link #DEFAULT_PARALLEL_THRESHOLD default threshold}.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @throws NullPointerException if the array, comparator or pool is null
+     */
+    public static <T> void parallelSort(@NotNull final T[] array,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool) {
+        parallelSort(array, comparator, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and parallel quicksort on the given pool.
+     * <p>
+     * After each partition the larger side is forked as a new task while the calling
+     * thread keeps working on the smaller side. Ranges of at most {@code threshold}
+     * elements are sorted sequentially.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @param pool       the pool in which the sort tasks are executed
+     * @param threshold  the range size below which work is done sequentially
+     * @throws NullPointerException     if the array, comparator or pool is null
+     * @throws IllegalArgumentException if the threshold is less than 1
+     */
+    public static <T> void parallelSort(@NotNull final T[] array,
+                                        @NotNull final Comparator<T> comparator,
+                                        @NotNull final ForkJoinPool pool,
+                                        final int threshold) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        checkThreshold(threshold);
+
+        if (array.length <= 1) {
+            return;
+        }
+
+        parallelSortArray(array, comparator, pool, threshold);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Sorts array[low..high] using introsort with a depth limit of 2 * floor(log2(n)).
+     */
+    private static <T> void introSort(@NotNull final T[] array,
+                                      final int low,
+                                      final int high,
+                                      @NotNull final Comparator<T> comparator) {
+        if (high <= low) {
+            return;
+        }
+        introSort(array, low, high, depthLimit(high - low + 1), comparator);
+    }
+
+    /**
+     * Introsort loop: recurses into the smaller partition and iterates on the larger one,
+     * which bounds the stack depth by O(log n) regardless of the pivots chosen.
+     */
+    private static <T> void introSort(@NotNull final T[] array,
+                                      int low,
+                                      int high,
+                                      int depthLimit,
+                                      @NotNull final Comparator<T> comparator) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                // Too many unbalanced partitions, switch to a guaranteed O(n log n) sort
+                HeapSort.heapSort(array, low, high, comparator);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high, comparator);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit, comparator);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit, comparator);
+                high = pivotIndex - 1;
+            }
+        }
+
+        InsertionSort.insertionSort(array, low, high, comparator);
+    }
+
+    /**
+     * Introsort loop using three-way partitioning.
+     * <p>
+     * Each step splits the range into elements less than, equal to and greater than the
+     * pivot (Dijkstra's Dutch national flag scheme). Only the outer blocks are sorted further:
+     * the smaller one recursively, the larger one by iteration.
+     * </p>
+     */
+    private static <T> void introSortThreeWay(@NotNull final T[] array,
+                                              int low,
+                                              int high,
+                                              int depthLimit,
+                                              @NotNull final Comparator<T> comparator) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high, comparator);
+                return;
+            }
+
+            swap(array, low, choosePivot(array, low, high, comparator));
+
+            final T pivot = array[low];
+            int lt = low;       // array[low..lt-1] < pivot
+            int i = low + 1;    // array[lt..i-1] == pivot
+            int gt = high;      // array[gt+1..high] > pivot
+
+            while (i <= gt) {
+                final int comparison = comparator.compare(array[i], pivot);
+                if (comparison < 0) {
+                    swap(array, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // array[lt..gt] now holds every element equal to the pivot and is final
+            if (lt - low < high - gt) {
+                introSortThreeWay(array, low, lt - 1, depthLimit, comparator);
+                low = gt + 1;
+            } else {
+                introSortThreeWay(array, gt + 1, high, depthLimit, comparator);
+                high = lt - 1;
+            }
+        }
+
+        InsertionSort.insertionSort(array, low, high, comparator);
+    }
+
+    /**
+     * Returns the number of partitioning levels allowed before falling back to heap sort.
+     */
+    private static int depthLimit(final int size) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    /**
+     * Partitions array[low..high] around the chosen pivot using the Hoare partition scheme.
+     */
+    private static <T> int partition(@NotNull final T[] array,
+                                     final int low,
+                                     final int high,
+                                     @NotNull final Comparator<T> comparator) {
+        return partition(array, low, high, choosePivot(array, low, high, comparator), comparator);
+    }
+
+    /**
+     * Partitions array[low..high] around array[pivotIndex] using the Hoare partition scheme.
+     * <p>
+     * After partitioning, all elements smaller than the pivot are to its left,
+     * and all elements greater than or equal to the pivot are to its right.
+     * Also used by {@link Selection}, which picks its own pivots when it needs a linear bound.
+     * </p>
+     *
+     * @return the final position of the pivot element
+     */
+    static <T> int partition(@NotNull final T[] array,
+                             final int low,
+                             final int high,
+                             final int pivotIndex,
+                             @NotNull final Comparator<T> comparator) {
+        swap(array, low, pivotIndex);
+
+        final T pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            // Find element on left side greater than or equal to pivot
+            while (comparator.compare(array[++i], pivot) < 0) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            // Find element on right side less than or equal to pivot
+            while (comparator.compare(pivot, array[--j]) < 0) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            // Check if pointers cross
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        // Put pivot in its final position
+        swap(array, low, j);
+        return j;
+    }
+
+    /**
+     * Returns the index of the pivot for array[low..high].
+     * <p>
+     * Small ranges use the median of the first, middle and last elements. Larger ranges
+     * use Tukey's ninther, the median of three medians-of-three spread across the range,
+     * which keeps sorted, reversed and organ-pipe inputs away from the worst case.
+     * </p>
+     */
+    static <T> int choosePivot(@NotNull final T[] array,
+                               final int low,
+                               final int high,
+                               @NotNull final Comparator<T> comparator) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, comparator);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step, comparator);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step, comparator);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high, comparator);
+        return medianOfThree(array, first, middle, last, comparator);
+    }
+
+    /**
+     * Returns the index of the median of array[a], array[b] and array[c].
+     */
+    private static <T> int medianOfThree(@NotNull final T[] array,
+                                         final int a,
+                                         final int b,
+                                         final int c,
+                                         @NotNull final Comparator<T> comparator) {
+        if (comparator.compare(array[a], array[b]) < 0) {
+            if (comparator.compare(array[b], array[c]) < 0) {
+                return b;
+            }
+            return comparator.compare(array[a], array[c]) < 0 ? c : a;
+        }
+        if (comparator.compare(array[a], array[c]) < 0) {
+            return a;
+        }
+        return comparator.compare(array[b], array[c]) < 0 ? c : b;
+    }
+
+    private static <T> void swap(@NotNull final T[] array, final int i, final int j) {
+        final T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Argsort ==========
+
+    /**
+     * Returns a sorting permutation of keys, sorting the keys along the way.
+     */
+    private static <K> int[] sortedOrder(@NotNull final K[] keys, @NotNull final Comparator<K> comparator) {
+        final int[] order = SortingUtils.identity(keys.length);
+        if (keys.length > 1) {
+            introSortByKey(keys, order, 0, keys.length - 1, depthLimit(keys.length), comparator);
+        }
+        return order;
+    }
+
+    /**
+     * Returns a sorting permutation of {@code long} keys, sorting the keys along the way.
+     */
+    private static int[] sortedOrder(@NotNull final long[] keys) {
+        final int[] order = SortingUtils.identity(keys.length);
+        if (keys.length > 1) {
+            introSortByKey(keys, order, 0, keys.length - 1, depthLimit(keys.length));
+        }
+        return order;
+    }
+
+    /**
+     * Introsort over keys[low..high] that moves order[] along with the keys.
+     * <p>
+     * Pivot selection and partitioning match the element kernel. Past the depth limit the
+     * range is finished with the (key, index) merge sort from {@link MergeSort}, which keeps
+     * the O(n log n) bound without a separate pair heap sort.
+     * </p>
+     */
+    private static <K> void introSortByKey(@NotNull final K[] keys,
+                                           @NotNull final int[] order,
+                                           int low,
+                                           int high,
+                                           int depthLimit,
+                                           @NotNull final Comparator<K> comparator) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                final int half = (high - low + 2) / 2;
+                MergeSort.mergeSortByKey(keys, order, SortingUtils.newBuffer(half), new int[half],
+                        low, high, comparator);
+                return;
+            }
+
+            swap(keys, order, low, choosePivot(keys, low, high, comparator));
+
+            final K pivot = keys[low];
+            int i = low;
+            int j = high + 1;
+            while (true) {
+                while (comparator.compare(keys[++i], pivot) < 0) {
+                    if (i == high) {
+                        break;
+                    }
+                }
+                while (comparator.compare(pivot, keys[--j]) < 0) {
+                    if (j == low) {
+                        break;
+                    }
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(keys, order, i, j);
+            }
+            swap(keys, order, low, j);
+
+            if (j - low < high - j) {
+                introSortByKey(keys, order, low, j - 1, depthLimit, comparator);
+                low = j + 1;
+            } else {
+                introSortByKey(keys, order, j + 1, high, depthLimit, comparator);
+                high = j - 1;
+            }
+        }
+
+        // Insertion sort for the small remainder
+        for (int i = low + 1; i <= high; i++) {
+            final K key = keys[i];
+            final int index = order[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(keys[j], key) > 0) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+
+    /**
+     * Introsort over {@code long} keys[low..high] that moves order[] along with the keys.
+     */
+    private static void introSortByKey(@NotNull final long[] keys,
+                                       @NotNull final int[] order,
+                                       int low,
+                                       int high,
+                                       int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                final int half = (high - low + 2) / 2;
+                MergeSort.mergeSortByKey(keys, order, new long[half], new int[half], low, high);
+                return;
+            }
+
+            swap(keys, order, low, choosePivot(keys, low, high));
+
+            final long pivot = keys[low];
+            int i = low;
+            int j = high + 1;
+            while (true) {
+                while (keys[++i] < pivot) {
+                    if (i == high) {
+                        break;
+                    }
+                }
+                while (pivot < keys[--j]) {
+                    if (j == low) {
+                        break;
+                    }
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(keys, order, i, j);
+            }
+            swap(keys, order, low, j);
+
+            if (j - low < high - j) {
+                introSortByKey(keys, order, low, j - 1, depthLimit);
+                low = j + 1;
+            } else {
+                introSortByKey(keys, order, j + 1, high, depthLimit);
+                high = j - 1;
+            }
+        }
+
+        // Insertion sort for the small remainder
+        for (int i = low + 1; i <= high; i++) {
+            final long key = keys[i];
+            final int index = order[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+
+    private static <K> void swap(@NotNull final K[] keys, @NotNull final int[] order, final int i, final int j) {
+        final K key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        final int index = order[i];
+        order[i] = order[j];
+        order[j] = index;
+    }
+
+    private static void swap(@NotNull final long[] keys, @NotNull final int[] order, final int i, final int j) {
+        final long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        final int index = order[i];
+        order[i] = order[j];
+        order[j] = index;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Parallel ==========
+
+    private static void checkThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+    }
+
+    /**
+     * Runs the parallel sort of the whole array, falling back to a sequential sort
+     * when the array is too small or the pool cannot run tasks concurrently.
+     */
+    private static <T> void parallelSortArray(@NotNull final T[] array,
+                                              @NotNull final Comparator<T> comparator,
+                                              @NotNull final ForkJoinPool pool,
+                                              final int threshold) {
+        if (array.length <= threshold || pool.getParallelism() <= 1) {
+            introSort(array, 0, array.length - 1, comparator);
+            return;
+        }
+
+        pool.invoke(new SortTask<>(array, 0, array.length - 1, depthLimit(array.length), comparator, threshold));
+    }
+
+    /**
+     * Sorts array[low..high] in parallel.
+     * <p>
+     * Each partition step forks the larger side as a new task and keeps partitioning the
+     * smaller side in the current thread until it drops below the threshold. The forked
+     * tasks are joined once the local range has been sorted sequentially. The introsort
+     * depth limit is shared along each chain of partitions, so degenerate pivots fall back
+     * to heap sort here as well.
+     * </p>
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final int low;
+        private final int high;
+        private final int depthLimit;
+        private final Comparator<T> comparator;
+        private final int threshold;
+
+        SortTask(final T[] array,
+                 final int low,
+                 final int high,
+                 final int depthLimit,
+                 final Comparator<T> comparator,
+                 final int threshold) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.depthLimit = depthLimit;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            final Deque<SortTask<T>> forked = new ArrayDeque<>();
+            int lo = low;
+            int hi = high;
+            int depth = depthLimit;
+
+            while (hi - lo + 1 > threshold && depth > 0) {
+                final int pivotIndex = partition(array, lo, hi, comparator);
+                final SortTask<T> task;
+                depth--;
+
+                if (pivotIndex - lo > hi - pivotIndex) {
+                    task = new SortTask<>(array, lo, pivotIndex - 1, depth, comparator, threshold);
+                    lo = pivotIndex + 1;
+                } else {
+                    task = new SortTask<>(array, pivotIndex + 1, hi, depth, comparator, threshold);
+                    hi = pivotIndex - 1;
+                }
+
+                task.fork();
+                forked.push(task);
+            }
+
+            if (hi > lo) {
+                introSort(array, lo, hi, depth, comparator);
+            }
+
+            // Join in reverse fork order so tasks still queued locally are run inline
+            while (!forked.isEmpty()) {
+                forked.pop().join();
+            }
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Primitive Kernels ==========
+
+    /**
+     * Sorts array[low..high] of {@code int} values using introsort.
+     */
+    private static void introSort(@NotNull final int[] array, final int low, final int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private static void introSort(@NotNull final int[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingNetworks.networkSort(array, low, high);
+    }
+
+    private static int partition(@NotNull final int[] array, final int low, final int high) {
+        return partition(array, low, high, choosePivot(array, low, high));
+    }
+
+    /**
+     * Partitions array[low..high] of {@code int} values around array[pivotIndex], as
+     * {@link #partition(Object[], int, int, int, Comparator)} does.
+     */
+    static int partition(@NotNull final int[] array, final int low, final int high, final int pivotIndex) {
+        swap(array, low, pivotIndex);
+
+        final int pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            while (array[++i] < pivot) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (pivot < array[--j]) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        swap(array, low, j);
+        return j;
+    }
+
+    /**
+     * Returns the index of the median-of-three or ninther pivot for array[low..high].
+     */
+    static int choosePivot(@NotNull final int[] array, final int low, final int high) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high);
+        return medianOfThree(array, first, middle, last);
+    }
+
+    private static int medianOfThree(@NotNull final int[] array, final int a, final int b, final int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private static void swap(@NotNull final int[] array, final int i, final int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values using introsort.
+     */
+    private static void introSort(@NotNull final long[] array, final int low, final int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private static void introSort(@NotNull final long[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingNetworks.networkSort(array, low, high);
+    }
+
+    private static int partition(@NotNull final long[] array, final int low, final int high) {
+        return partition(array, low, high, choosePivot(array, low, high));
+    }
+
+    /**
+     * Partitions array[low..high] of {@code long} values around array[pivotIndex], as
+     * {@link #partition(Object[], int, int, int, Comparator)} does.
+     */
+    static int partition(@NotNull final long[] array, final int low, final int high, final int pivotIndex) {
+        swap(array, low, pivotIndex);
+
+        final long pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            while (array[++i] < pivot) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (pivot < array[--j]) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        swap(array, low, j);
+        return j;
+    }
+
+    /**
+     * Returns the index of the median-of-three or ninther pivot for array[low..high].
+     */
+    static int choosePivot(@NotNull final long[] array, final int low, final int high) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high);
+        return medianOfThree(array, first, middle, last);
+    }
+
+    private static int medianOfThree(@NotNull final long[] array, final int a, final int b, final int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private static void swap(@NotNull final long[] array, final int i, final int j) {
+        final long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values using introsort.
+     */
+    private static void introSort(@NotNull final short[] array, final int low, final int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private static void introSort(@NotNull final short[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingNetworks.networkSort(array, low, high);
+    }
+
+    private static int partition(@NotNull final short[] array, final int low, final int high) {
+        swap(array, low, choosePivot(array, low, high));
+
+        final short pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            while (array[++i] < pivot) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (pivot < array[--j]) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        swap(array, low, j);
+        return j;
+    }
+
+    private static int choosePivot(@NotNull final short[] array, final int low, final int high) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high);
+        return medianOfThree(array, first, middle, last);
+    }
+
+    private static int medianOfThree(@NotNull final short[] array, final int a, final int b, final int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private static void swap(@NotNull final short[] array, final int i, final int j) {
+        final short temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values using introsort.
+     */
+    private static void introSort(@NotNull final char[] array, final int low, final int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private static void introSort(@NotNull final char[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingNetworks.networkSort(array, low, high);
+    }
+
+    private static int partition(@NotNull final char[] array, final int low, final int high) {
+        swap(array, low, choosePivot(array, low, high));
+
+        final char pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            while (array[++i] < pivot) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (pivot < array[--j]) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        swap(array, low, j);
+        return j;
+    }
+
+    private static int choosePivot(@NotNull final char[] array, final int low, final int high) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high);
+        return medianOfThree(array, first, middle, last);
+    }
+
+    private static int medianOfThree(@NotNull final char[] array, final int a, final int b, final int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private static void swap(@NotNull final char[] array, final int i, final int j) {
+        final char temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values using introsort.
+     */
+    private static void introSort(@NotNull final float[] array, final int low, final int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private static void introSort(@NotNull final float[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingNetworks.networkSort(array, low, high);
+    }
+
+    private static int partition(@NotNull final float[] array, final int low, final int high) {
+        swap(array, low, choosePivot(array, low, high));
+
+        final float pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            while (array[++i] < pivot) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (pivot < array[--j]) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        swap(array, low, j);
+        return j;
+    }
+
+    private static int choosePivot(@NotNull final float[] array, final int low, final int high) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high);
+        return medianOfThree(array, first, middle, last);
+    }
+
+    private static int medianOfThree(@NotNull final float[] array, final int a, final int b, final int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private static void swap(@NotNull final float[] array, final int i, final int j) {
+        final float temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values using introsort.
+     */
+    private static void introSort(@NotNull final double[] array, final int low, final int high) {
+        if (high > low) {
+            introSort(array, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    private static void introSort(@NotNull final double[] array, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                HeapSort.heapSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = partition(array, low, high);
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingNetworks.networkSort(array, low, high);
+    }
+
+    private static int partition(@NotNull final double[] array, final int low, final int high) {
+        return partition(array, low, high, choosePivot(array, low, high));
+    }
+
+    /**
+     * Partitions array[low..high] of {@code double} values around array[pivotIndex], as
+     * {@link #partition(Object[], int, int, int, Comparator)} does.
+     */
+    static int partition(@NotNull final double[] array, final int low, final int high, final int pivotIndex) {
+        swap(array, low, pivotIndex);
+
+        final double pivot = array[low];
+        int i = low;
+        int j = high + 1;
+
+        while (true) {
+            while (array[++i] < pivot) {
+                if (i == high) {
+                    break;
+                }
+            }
+
+            while (pivot < array[--j]) {
+                if (j == low) {
+                    break;
+                }
+            }
+
+            if (i >= j) {
+                break;
+            }
+
+            swap(array, i, j);
+        }
+
+        swap(array, low, j);
+        return j;
+    }
+
+    /**
+     * Returns the index of the median-of-three or ninther pivot for array[low..high].
+     */
+    static int choosePivot(@NotNull final double[] array, final int low, final int high) {
+        final int size = high - low + 1;
+        final int mid = low + size / 2;
+
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high);
+        }
+
+        final int step = size / 8;
+        final int first = medianOfThree(array, low, low + step, low + 2 * step);
+        final int middle = medianOfThree(array, mid - step, mid, mid + step);
+        final int last = medianOfThree(array, high - 2 * step, high - step, high);
+        return medianOfThree(array, first, middle, last);
+    }
+
+    private static int medianOfThree(@NotNull final double[] array, final int a, final int b, final int c) {
+        if (array[a] < array[b]) {
+            if (array[b] < array[c]) {
+                return b;
+            }
+            return array[a] < array[c] ? c : a;
+        }
+        if (array[a] < array[c]) {
+            return a;
+        }
+        return array[b] < array[c] ? c : b;
+    }
+
+    private static void swap(@NotNull final double[] array, final int i, final int j) {
+        final double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
     }
 }
\ No newline at end of file
@@ -0,0 +1,639 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Implementation of the least-significant-digit (LSD) Radix Sort algorithm.
+ * <p>
+ * Radix Sort does not compare elements. Keys are distributed into 256 buckets one byte at a
+ * time, from the least significant byte to the most significant, with a stable counting pass
+ * per byte. The histograms of all bytes are built in a single scan up front, and passes in
+ * which every key has the same byte are skipped, so keys with a narrow range (such as small
+ * IDs stored in a {@code long}) only pay for the bytes that actually vary.
+ * </p>
+ * <p>
+ * Signed integers are ordered by flipping the sign bit. Floating-point values are mapped to
+ * integers whose order matches {@link Double#compare(double, double)}: NaN values are placed
+ * last and {@code -0.0} before {@code 0.0}.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(w·n) where w is the key width in bytes<br>
+ * <strong>Space Complexity:</strong> O(n) auxiliary space<br>
+ * <strong>Stability:</strong> Stable - maintains relative order of equal keys<br>
+ * <strong>In-place:</strong> No - requires additional space
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class RadixSort {
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * Ranges up to this size are sorted with insertion sort, where the histogram setup
+     * would cost more than the sort itself.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    private RadixSort() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // ========== PUBLIC API - Key Extractor Operations ==========
+
+    /**
+     * Sorts the list by the {@code int} key of each element, in ascending key order.
+     * <p>
+     * Keys are extracted once per element. The sort is stable, so elements with equal keys
+     * keep their relative order. The list is copied into an array, sorted, and written back
+     * in a single pass.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param list         the list to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the list or key extractor is null
+     */
+    public static <T> void sortByIntKey(@NotNull final List<T> list,
+                                        @NotNull final ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortByIntKey(array, keyExtractor));
+    }
+
+    /**
+     * Sorts the array by the {@code int} key of each element, in ascending key order.
+     * <p>
+     * Keys are extracted once per element. The sort is stable, so elements with equal keys
+     * keep their relative order.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param array        the array to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the array or key extractor is null
+     */
+    public static <T> void sortByIntKey(@NotNull final T[] array,
+                                        @NotNull final ToIntFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+        radixSort(keys, array);
+    }
+
+    /**
+     * Sorts the list by the {@code long} key of each element, in ascending key order.
+     * <p>
+     * Keys are extracted once per element. The sort is stable, so elements with equal keys
+     * keep their relative order. The list is copied into an array, sorted, and written back
+     * in a single pass.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param list         the list to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the list or key extractor is null
+     */
+    public static <T> void sortByLongKey(@NotNull final List<T> list,
+                                         @NotNull final ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> sortByLongKey(array, keyExtractor));
+    }
+
+    /**
+     * Sorts the array by the {@code long} key of each element, in ascending key order.
+     * <p>
+     * Keys are extracted once per element. The sort is stable, so elements with equal keys
+     * keep their relative order.
+     * </p>
+     *
+     * @param <T>          the type of elements
+     * @param array        the array to sort
+     * @param keyExtractor the function extracting the sort key of an element
+     * @throws NullPointerException if the array or key extractor is null
+     */
+    public static <T> void sortByLongKey(@NotNull final T[] array,
+                                         @NotNull final ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(keyExtractor, "Key extractor cannot be null");
+
+        final int n = array.length;
+        if (n <= 1) {
+            return;
+        }
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+        radixSort(keys, array);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using radix sort.
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        radixSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using radix sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        radixSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using radix sort.
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        radixSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using radix sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        radixSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using radix sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1, RadixSort::radixSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using radix sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, RadixSort::radixSort);
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using radix sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1, RadixSort::radixSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using radix sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, RadixSort::radixSort);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Sorts array[low..high] of {@code int} values with one counting pass per byte.
+     * <p>
+     * The sign bit is flipped while extracting digits so that negative values order first.
+     * Passes alternate between the array and a buffer; an odd number of executed passes
+     * leaves the result in the buffer, which is then copied back.
+     * </p>
+     */
+    private static void radixSort(@NotNull final int[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(array, low, high);
+            return;
+        }
+
+        // Build the histograms of all digits in a single scan
+        final int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int i = low; i <= high; i++) {
+            final int key = array[i] ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < Integer.BYTES; digit++) {
+                counts[digit][(key >>> (digit * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        int[] buffer = null;
+        boolean inBuffer = false;
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            final int shift = digit * RADIX_BITS;
+            final int[] count = counts[digit];
+            final int[] source = inBuffer ? buffer : array;
+            final int sourceLow = inBuffer ? 0 : low;
+
+            // Every key has the same digit, so this pass would not move anything
+            if (count[((source[sourceLow] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK] == n) {
+                continue;
+            }
+
+            if (buffer == null) {
+                buffer = new int[n];
+            }
+            final int[] target = inBuffer ? array : buffer;
+            toOffsets(count, inBuffer ? low : 0);
+
+            for (int i = sourceLow; i < sourceLow + n; i++) {
+                final int value = source[i];
+                target[count[((value ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+            }
+            inBuffer = !inBuffer;
+        }
+
+        if (inBuffer) {
+            System.arraycopy(buffer, 0, array, low, n);
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values with one counting pass per byte.
+     * <p>
+     * Works like the {@code int} kernel over eight bytes instead of four.
+     * </p>
+     */
+    private static void radixSort(@NotNull final long[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(array, low, high);
+            return;
+        }
+
+        // Build the histograms of all digits in a single scan
+        final int[][] counts = new int[Long.BYTES][RADIX];
+        for (int i = low; i <= high; i++) {
+            final long key = array[i] ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                counts[digit][(int) (key >>> (digit * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        long[] buffer = null;
+        boolean inBuffer = false;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            final int shift = digit * RADIX_BITS;
+            final int[] count = counts[digit];
+            final long[] source = inBuffer ? buffer : array;
+            final int sourceLow = inBuffer ? 0 : low;
+
+            // Every key has the same digit, so this pass would not move anything
+            if (count[(int) ((source[sourceLow] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == n) {
+                continue;
+            }
+
+            if (buffer == null) {
+                buffer = new long[n];
+            }
+            final long[] target = inBuffer ? array : buffer;
+            toOffsets(count, inBuffer ? low : 0);
+
+            for (int i = sourceLow; i < sourceLow + n; i++) {
+                final long value = source[i];
+                target[count[(int) ((value ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+            }
+            inBuffer = !inBuffer;
+        }
+
+        if (inBuffer) {
+            System.arraycopy(buffer, 0, array, low, n);
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of non-NaN {@code float} values through their ordered bit patterns.
+     * <p>
+     * For negative values all bits but the sign are flipped, which makes signed integer order
+     * match floating-point order, with {@code -0.0f} before {@code 0.0f}. The mapping is its
+     * own inverse, so the values are restored exactly.
+     * </p>
+     */
+    private static void radixSort(@NotNull final float[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        final int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = SortingUtils.orderedBits(Float.floatToRawIntBits(array[low + i]));
+        }
+
+        radixSort(keys, 0, n - 1);
+
+        for (int i = 0; i < n; i++) {
+            array[low + i] = Float.intBitsToFloat(SortingUtils.orderedBits(keys[i]));
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of non-NaN {@code double} values through their ordered bit patterns.
+     * <p>
+     * Works like the {@code float} kernel over 64-bit patterns.
+     * </p>
+     */
+    private static void radixSort(@NotNull final double[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        if (n <= 1) {
+            return;
+        }
+
+        final long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = SortingUtils.orderedBits(Double.doubleToRawLongBits(array[low + i]));
+        }
+
+        radixSort(keys, 0, n - 1);
+
+        for (int i = 0; i < n; i++) {
+            array[low + i] = Double.longBitsToDouble(SortingUtils.orderedBits(keys[i]));
+        }
+    }
+
+    /**
+     * Stably sorts elements by their {@code int} keys, where keys[i] belongs to elements[i].
+     * <p>
+     * Keys and elements are moved together in every pass, so the key extractor is never
+     * called again after the initial extraction.
+     * </p>
+     */
+    private static <T> void radixSort(@NotNull final int[] keys, @NotNull final T[] elements) {
+        final int n = keys.length;
+
+        // Build the histograms of all digits in a single scan
+        final int[][] counts = new int[Integer.BYTES][RADIX];
+        for (final int value : keys) {
+            final int key = value ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < Integer.BYTES; digit++) {
+                counts[digit][(key >>> (digit * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        int[] keyBuffer = null;
+        T[] elementBuffer = null;
+        boolean inBuffer = false;
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            final int shift = digit * RADIX_BITS;
+            final int[] count = counts[digit];
+            final int[] sourceKeys = inBuffer ? keyBuffer : keys;
+
+            // Every key has the same digit, so this pass would not move anything
+            if (count[((sourceKeys[0] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK] == n) {
+                continue;
+            }
+
+            if (keyBuffer == null) {
+                keyBuffer = new int[n];
+                elementBuffer = SortingUtils.newBuffer(n);
+            }
+            final T[] sourceElements = inBuffer ? elementBuffer : elements;
+            final int[] targetKeys = inBuffer ? keys : keyBuffer;
+            final T[] targetElements = inBuffer ? elements : elementBuffer;
+            toOffsets(count, 0);
+
+            for (int i = 0; i < n; i++) {
+                final int key = sourceKeys[i];
+                final int position = count[((key ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                targetKeys[position] = key;
+                targetElements[position] = sourceElements[i];
+            }
+            inBuffer = !inBuffer;
+        }
+
+        if (inBuffer) {
+            System.arraycopy(elementBuffer, 0, elements, 0, n);
+        }
+    }
+
+    /**
+     * Stably sorts elements by their {@code long} keys, where keys[i] belongs to elements[i].
+     * <p>
+     * Works like the {@code int} key kernel over eight bytes instead of four.
+     * </p>
+     */
+    private static <T> void radixSort(@NotNull final long[] keys, @NotNull final T[] elements) {
+        final int n = keys.length;
+
+        // Build the histograms of all digits in a single scan
+        final int[][] counts = new int[Long.BYTES][RADIX];
+        for (final long value : keys) {
+            final long key = value ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                counts[digit][(int) (key >>> (digit * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        long[] keyBuffer = null;
+        T[] elementBuffer = null;
+        boolean inBuffer = false;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            final int shift = digit * RADIX_BITS;
+            final int[] count = counts[digit];
+            final long[] sourceKeys = inBuffer ? keyBuffer : keys;
+
+            // Every key has the same digit, so this pass would not move anything
+            if (count[(int) ((sourceKeys[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == n) {
+                continue;
+            }
+
+            if (keyBuffer == null) {
+                keyBuffer = new long[n];
+                elementBuffer = SortingUtils.newBuffer(n);
+            }
+            final T[] sourceElements = inBuffer ? elementBuffer : elements;
+            final long[] targetKeys = inBuffer ? keys : keyBuffer;
+            final T[] targetElements = inBuffer ? elements : elementBuffer;
+            toOffsets(count, 0);
+
+            for (int i = 0; i < n; i++) {
+                final long key = sourceKeys[i];
+                final int position = count[(int) ((key ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                targetKeys[position] = key;
+                targetElements[position] = sourceElements[i];
+            }
+            inBuffer = !inBuffer;
+        }
+
+        if (inBuffer) {
+            System.arraycopy(elementBuffer, 0, elements, 0, n);
+        }
+    }
+
+    // ========== INTERNAL API - Key Kernels ==========
+
+    /**
+     * Stably sorts {@code long} keys, moving order[] along with them, where order[i] is the
+     * row index that keys[i] belongs to.
+     * <p>
+     * Used by {@link ColumnSort} to refine a row order one key column at a time.
+     * </p>
+     */
+    static void radixSort(@NotNull final long[] keys, @NotNull final int[] order) {
+        final int n = keys.length;
+        if (n <= 1) {
+            return;
+        }
+
+        // Build the histograms of all digits in a single scan
+        final int[][] counts = new int[Long.BYTES][RADIX];
+        for (final long value : keys) {
+            final long key = value ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                counts[digit][(int) (key >>> (digit * RADIX_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        long[] keyBuffer = null;
+        int[] orderBuffer = null;
+        boolean inBuffer = false;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            final int shift = digit * RADIX_BITS;
+            final int[] count = counts[digit];
+            final long[] sourceKeys = inBuffer ? keyBuffer : keys;
+
+            // Every key has the same digit, so this pass would not move anything
+            if (count[(int) ((sourceKeys[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == n) {
+                continue;
+            }
+
+            if (keyBuffer == null) {
+                keyBuffer = new long[n];
+                orderBuffer = new int[n];
+            }
+            final int[] sourceOrder = inBuffer ? orderBuffer : order;
+            final long[] targetKeys = inBuffer ? keys : keyBuffer;
+            final int[] targetOrder = inBuffer ? order : orderBuffer;
+            toOffsets(count, 0);
+
+            for (int i = 0; i < n; i++) {
+                final long key = sourceKeys[i];
+                final int position = count[(int) ((key ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                targetKeys[position] = key;
+                targetOrder[position] = sourceOrder[i];
+            }
+            inBuffer = !inBuffer;
+        }
+
+        if (inBuffer) {
+            System.arraycopy(keyBuffer, 0, keys, 0, n);
+            System.arraycopy(orderBuffer, 0, order, 0, n);
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Turns a digit histogram into the first target index of each bucket.
+     */
+    private static void toOffsets(@NotNull final int[] count, final int start) {
+        int offset = start;
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            final int size = count[bucket];
+            count[bucket] = offset;
+            offset += size;
+        }
+    }
+}
\ No newline at end of file
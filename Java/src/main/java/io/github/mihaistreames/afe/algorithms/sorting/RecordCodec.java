@@ -0,0 +1,47 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts between fixed-width binary records and objects, for {@link ExternalMergeSort}.
+ * <p>
+ * Every record occupies exactly {@link #recordSize()} bytes. Buffers handed to
+ * {@link #decode(ByteBuffer)} and {@link #encode(Object, ByteBuffer)} are positioned at the
+ * start of a record and limited to its end, so a codec cannot read or write past it.
+ * </p>
+ *
+ * @param <T> the type of records
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Returns the size of one encoded record in bytes.
+     *
+     * @return the record size, must be positive and constant
+     */
+    int recordSize();
+
+    /**
+     * Reads one record from the buffer, starting at its position.
+     *
+     * @param buffer the buffer holding exactly one record between position and limit
+     * @return the decoded record
+     */
+    T decode(@NotNull ByteBuffer buffer);
+
+    /**
+     * Writes one record into the buffer, starting at its position.
+     * <p>
+     * Exactly {@link #recordSize()} bytes must be written.
+     * </p>
+     *
+     * @param record the record to encode
+     * @param buffer the buffer with room for exactly one record between position and limit
+     */
+    void encode(T record, @NotNull ByteBuffer buffer);
+}
\ No newline at end of file
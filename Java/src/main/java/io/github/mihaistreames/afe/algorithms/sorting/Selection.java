@@ -0,0 +1,912 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Order statistics: selecting the k-th smallest elements without sorting everything.
+ * <p>
+ * {@link #select(Object[], int, Comparator) select} is an introselect built on the
+ * {@link QuickSort} partition: it partitions around median-of-three or ninther pivots and
+ * only continues into the side holding rank k. If two partitioning steps in a row fail to
+ * halve the range, it switches to median-of-medians pivots, which guarantee linear time on
+ * any input. {@link #multiSelect(Object[], int[], Comparator) multiSelect} places several
+ * ranks in one pass by recursing only into the sides that still contain a requested rank,
+ * and {@link #partialSort(Object[], int, Comparator) partialSort} orders the k smallest
+ * elements with a bounded {@link HeapSort} heap.
+ * </p>
+ * <p>
+ * Like {@code std::nth_element}, selection rearranges its input: afterwards the element at
+ * rank k is the one a full sort would put there, everything before it is not greater and
+ * everything after it is not smaller.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(n) for select, O(n log m) for m ranks, O(n log k) for partialSort<br>
+ * <strong>Space Complexity:</strong> O(log n) (recursion stack)<br>
+ * <strong>Stability:</strong> Not stable - may change relative order of equal elements<br>
+ * <strong>In-place:</strong> Yes - rearranges the input
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class Selection {
+
+    /**
+     * Ranges of at most this many elements are finished with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Selection() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // ========== PUBLIC API - List Operations ==========
+
+    /**
+     * Rearranges the list so the element at index k is the k-th smallest in natural order,
+     * and returns it.
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to rearrange
+     * @param k    the zero-based rank to select
+     * @return the k-th smallest element
+     * @throws NullPointerException      if the list is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= list.size()
+     */
+    public static <T extends Comparable<T>> T select(@NotNull final List<T> list, final int k) {
+        Objects.requireNonNull(list, "List cannot be null");
+        return select(list, k, Comparable::compareTo);
+    }
+
+    /**
+     * Rearranges the list so the element at index k is the k-th smallest according to the
+     * comparator, and returns it.
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to rearrange
+     * @param k          the zero-based rank to select
+     * @param comparator the comparator to determine element order
+     * @return the k-th smallest element
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= list.size()
+     */
+    public static <T> T select(@NotNull final List<T> list, final int k, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkRank(k, list.size());
+
+        final T[] array = SortingUtils.toArray(list);
+        introSelect(array, 0, array.length - 1, k, comparator);
+        SortingUtils.writeBack(list, array);
+        return array[k];
+    }
+
+    /**
+     * Rearranges the list so every requested rank holds the element a full sort in natural
+     * order would put there.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param list  the list to rearrange
+     * @param ranks the zero-based ranks to select, in any order, duplicates allowed
+     * @throws NullPointerException      if the list or ranks is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than list.size()
+     */
+    public static <T extends Comparable<T>> void multiSelect(@NotNull final List<T> list, @NotNull final int[] ranks) {
+        Objects.requireNonNull(list, "List cannot be null");
+        multiSelect(list, ranks, Comparable::compareTo);
+    }
+
+    /**
+     * Rearranges the list so every requested rank holds the element a full sort with the
+     * comparator would put there.
+     * <p>
+     * This is cheaper than selecting each rank separately: partitioning work above the
+     * ranks is shared, and sides of a partition that hold no rank are never visited again.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to rearrange
+     * @param ranks      the zero-based ranks to select, in any order, duplicates allowed
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list, ranks or comparator is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than list.size()
+     */
+    public static <T> void multiSelect(@NotNull final List<T> list,
+                                       @NotNull final int[] ranks,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        final int[] sorted = sortedRanks(ranks, list.size());
+        if (sorted.length == 0) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list,
+                array -> multiSelect(array, 0, array.length - 1, sorted, 0, sorted.length, comparator));
+    }
+
+    /**
+     * Moves the k smallest elements of the list to its front in ascending natural order.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to rearrange
+     * @param k    the number of leading elements to order
+     * @throws NullPointerException      if the list is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void partialSort(@NotNull final List<T> list, final int k) {
+        Objects.requireNonNull(list, "List cannot be null");
+        partialSort(list, k, Comparable::compareTo);
+    }
+
+    /**
+     * Moves the k smallest elements of the list to its front, ordered by the comparator.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to rearrange
+     * @param k          the number of leading elements to order
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt; list.size()
+     */
+    public static <T> void partialSort(@NotNull final List<T> list,
+                                       final int k,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkCount(k, list.size());
+        if (k == 0) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> heapSelect(array, k, comparator));
+    }
+
+    // ========== PUBLIC API - Array Operations ==========
+
+    /**
+     * Rearranges the array so the element at index k is the k-th smallest in natural order,
+     * and returns it.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to rearrange
+     * @param k     the zero-based rank to select
+     * @return the k-th smallest element
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= array.length
+     */
+    public static <T extends Comparable<T>> T select(@NotNull final T[] array, final int k) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        return select(array, k, Comparable::compareTo);
+    }
+
+    /**
+     * Rearranges the array so the element at index k is the k-th smallest according to the
+     * comparator, and returns it.
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to rearrange
+     * @param k          the zero-based rank to select
+     * @param comparator the comparator to determine element order
+     * @return the k-th smallest element
+     * @throws NullPointerException      if the array or comparator is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= array.length
+     */
+    public static <T> T select(@NotNull final T[] array, final int k, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkRank(k, array.length);
+
+        introSelect(array, 0, array.length - 1, k, comparator);
+        return array[k];
+    }
+
+    /**
+     * Rearranges the array so every requested rank holds the element a full sort in natural
+     * order would put there.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to rearrange
+     * @param ranks the zero-based ranks to select, in any order, duplicates allowed
+     * @throws NullPointerException      if the array or ranks is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than array.length
+     */
+    public static <T extends Comparable<T>> void multiSelect(@NotNull final T[] array, @NotNull final int[] ranks) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        multiSelect(array, ranks, Comparable::compareTo);
+    }
+
+    /**
+     * Rearranges the array so every requested rank holds the element a full sort with the
+     * comparator would put there.
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to rearrange
+     * @param ranks      the zero-based ranks to select, in any order, duplicates allowed
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the array, ranks or comparator is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than array.length
+     */
+    public static <T> void multiSelect(@NotNull final T[] array,
+                                       @NotNull final int[] ranks,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        final int[] sorted = sortedRanks(ranks, array.length);
+
+        multiSelect(array, 0, array.length - 1, sorted, 0, sorted.length, comparator);
+    }
+
+    /**
+     * Moves the k smallest elements of the array to its front in ascending natural order.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to rearrange
+     * @param k     the number of leading elements to order
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt; array.length
+     */
+    public static <T extends Comparable<T>> void partialSort(@NotNull final T[] array, final int k) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        partialSort(array, k, Comparable::compareTo);
+    }
+
+    /**
+     * Moves the k smallest elements of the array to its front, ordered by the comparator.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to rearrange
+     * @param k          the number of leading elements to order
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the array or comparator is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt; array.length
+     */
+    public static <T> void partialSort(@NotNull final T[] array,
+                                       final int k,
+                                       @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkCount(k, array.length);
+        if (k == 0) {
+            return;
+        }
+
+        heapSelect(array, k, comparator);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+    /**
+     * Rearranges the array so the value at index k is the k-th smallest, and returns it.
+     *
+     * @param array the array to rearrange
+     * @param k     the zero-based rank to select
+     * @return the k-th smallest value
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= array.length
+     */
+    public static int select(@NotNull final int[] array, final int k) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkRank(k, array.length);
+
+        introSelect(array, 0, array.length - 1, k);
+        return array[k];
+    }
+
+    /**
+     * Rearranges the array so every requested rank holds the value a full sort would put there.
+     *
+     * @param array the array to rearrange
+     * @param ranks the zero-based ranks to select, in any order, duplicates allowed
+     * @throws NullPointerException      if the array or ranks is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than array.length
+     */
+    public static void multiSelect(@NotNull final int[] array, @NotNull final int[] ranks) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        final int[] sorted = sortedRanks(ranks, array.length);
+
+        multiSelect(array, 0, array.length - 1, sorted, 0, sorted.length);
+    }
+
+    /**
+     * Rearranges the array so the value at index k is the k-th smallest, and returns it.
+     *
+     * @param array the array to rearrange
+     * @param k     the zero-based rank to select
+     * @return the k-th smallest value
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= array.length
+     */
+    public static long select(@NotNull final long[] array, final int k) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkRank(k, array.length);
+
+        introSelect(array, 0, array.length - 1, k);
+        return array[k];
+    }
+
+    /**
+     * Rearranges the array so every requested rank holds the value a full sort would put there.
+     *
+     * @param array the array to rearrange
+     * @param ranks the zero-based ranks to select, in any order, duplicates allowed
+     * @throws NullPointerException      if the array or ranks is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than array.length
+     */
+    public static void multiSelect(@NotNull final long[] array, @NotNull final int[] ranks) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        final int[] sorted = sortedRanks(ranks, array.length);
+
+        multiSelect(array, 0, array.length - 1, sorted, 0, sorted.length);
+    }
+
+    /**
+     * Rearranges the array so the value at index k is the k-th smallest, and returns it.
+     * <p>
+     * Values are ordered like {@link Double#compare(double, double)}: {@code -0.0} before
+     * {@code 0.0}, and NaN after every other value.
+     * </p>
+     *
+     * @param array the array to rearrange
+     * @param k     the zero-based rank to select
+     * @return the k-th smallest value
+     * @throws NullPointerException      if the array is null
+     * @throws IndexOutOfBoundsException if k &lt; 0 or k &gt;= array.length
+     */
+    public static double select(@NotNull final double[] array, final int k) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkRank(k, array.length);
+
+        multiSelectDoubles(array, new int[]{k});
+        return array[k];
+    }
+
+    /**
+     * Rearranges the array so every requested rank holds the value a full sort would put there.
+     * <p>
+     * Values are ordered like {@link Double#compare(double, double)}: {@code -0.0} before
+     * {@code 0.0}, and NaN after every other value.
+     * </p>
+     *
+     * @param array the array to rearrange
+     * @param ranks the zero-based ranks to select, in any order, duplicates allowed
+     * @throws NullPointerException      if the array or ranks is null
+     * @throws IndexOutOfBoundsException if any rank is negative or not less than array.length
+     */
+    public static void multiSelect(@NotNull final double[] array, @NotNull final int[] ranks) {
+        Objects.requireNonNull(array, "Array cannot be null");
+
+        multiSelectDoubles(array, sortedRanks(ranks, array.length));
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    private static void checkRank(final int k, final int length) {
+        if (k < 0 || k >= length) {
+            throw new IndexOutOfBoundsException("Rank " + k + " out of bounds for length " + length);
+        }
+    }
+
+    private static void checkCount(final int k, final int length) {
+        if (k < 0 || k > length) {
+            throw new IndexOutOfBoundsException("Count " + k + " out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * Validates the ranks and returns them as a new ascending array.
+     */
+    private static int[] sortedRanks(@NotNull final int[] ranks, final int length) {
+        Objects.requireNonNull(ranks, "Ranks cannot be null");
+        for (final int rank : ranks) {
+            checkRank(rank, length);
+        }
+
+        final int[] sorted = ranks.clone();
+        QuickSort.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Returns the index of the first of ranks[from..to) that is at least the given position.
+     */
+    private static int firstRankAtLeast(@NotNull final int[] ranks, int from, int to, final int position) {
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (ranks[mid] < position) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Places the element of rank k (within the whole array) at index k, where
+     * low &lt;= k &lt;= high and array[low..high] holds exactly the elements of ranks low..high.
+     * <p>
+     * Progress is checked every two partitioning steps: if the range has not at least
+     * halved, the remaining steps use median-of-medians pivots, so the total work stays
+     * linear even on adversarial inputs.
+     * </p>
+     */
+    private static <T> void introSelect(@NotNull final T[] array,
+                                        int low,
+                                        int high,
+                                        final int k,
+                                        @NotNull final Comparator<T> comparator) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high, comparator)
+                    : QuickSort.choosePivot(array, low, high, comparator);
+            final int p = QuickSort.partition(array, low, high, pivotIndex, comparator);
+
+            if (p == k) {
+                return;
+            } else if (k < p) {
+                high = p - 1;
+            } else {
+                low = p + 1;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+
+        InsertionSort.insertionSort(array, low, high, comparator);
+    }
+
+    /**
+     * Places every rank in ranks[from..to) (sorted ascending, all within low..high) at its index.
+     * <p>
+     * Each partition splits the ranks around the pivot position. The side with fewer ranks
+     * is handled recursively and the other by iteration, and a side with no ranks is dropped.
+     * </p>
+     */
+    private static <T> void multiSelect(@NotNull final T[] array,
+                                        int low,
+                                        int high,
+                                        @NotNull final int[] ranks,
+                                        int from,
+                                        int to,
+                                        @NotNull final Comparator<T> comparator) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (from < to) {
+            if (from + 1 == to) {
+                introSelect(array, low, high, ranks[from], comparator);
+                return;
+            }
+            if (high - low + 1 <= INSERTION_SORT_THRESHOLD) {
+                InsertionSort.insertionSort(array, low, high, comparator);
+                return;
+            }
+
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high, comparator)
+                    : QuickSort.choosePivot(array, low, high, comparator);
+            final int p = QuickSort.partition(array, low, high, pivotIndex, comparator);
+
+            final int split = firstRankAtLeast(ranks, from, to, p);
+            final int after = firstRankAtLeast(ranks, split, to, p + 1);
+
+            if (split - from < to - after) {
+                multiSelect(array, low, p - 1, ranks, from, split, comparator);
+                low = p + 1;
+                from = after;
+            } else {
+                multiSelect(array, p + 1, high, ranks, after, to, comparator);
+                high = p - 1;
+                to = split;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of a pivot whose rank within array[low..high] lies between 30% and 70%.
+     * <p>
+     * The range is split into groups of five, the median of each group is moved to the
+     * front of the range, and the median of those medians is selected recursively.
+     * </p>
+     */
+    private static <T> int medianOfMedians(@NotNull final T[] array,
+                                           final int low,
+                                           final int high,
+                                           @NotNull final Comparator<T> comparator) {
+        int medians = low;
+        for (int group = low; group <= high; group += 5) {
+            final int end = Math.min(group + 4, high);
+            InsertionSort.insertionSort(array, group, end, comparator);
+            swap(array, medians++, group + (end - group) / 2);
+        }
+
+        final int mid = low + (medians - low - 1) / 2;
+        introSelect(array, low, medians - 1, mid, comparator);
+        return mid;
+    }
+
+    /**
+     * Orders the k smallest elements of the array at its front.
+     * <p>
+     * A max-heap of the first k elements is kept over array[0..k-1]; every later element
+     * smaller than the heap's root replaces it. The heap is then sorted in place.
+     * </p>
+     */
+    private static <T> void heapSelect(@NotNull final T[] array, final int k, @NotNull final Comparator<T> comparator) {
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            HeapSort.heapify(array, 0, k, i, comparator);
+        }
+
+        for (int i = k; i < array.length; i++) {
+            if (comparator.compare(array[i], array[0]) < 0) {
+                swap(array, 0, i);
+                HeapSort.heapify(array, 0, k, 0, comparator);
+            }
+        }
+
+        for (int i = k - 1; i > 0; i--) {
+            swap(array, 0, i);
+            HeapSort.heapify(array, 0, i, 0, comparator);
+        }
+    }
+
+    private static <T> void swap(@NotNull final T[] array, final int i, final int j) {
+        final T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Primitive Kernels ==========
+
+    /**
+     * Selects the ranks in a {@code double} array in the order of {@link Double#compare(double, double)}.
+     * <p>
+     * NaN values are moved to the end first, where they already hold the highest ranks, so
+     * the kernels can compare with {@code <}. Those comparisons treat both zeros as equal,
+     * so if a selected value is zero, the zeros are rewritten afterwards with every
+     * {@code -0.0} ahead of every {@code 0.0}.
+     * </p>
+     */
+    private static void multiSelectDoubles(@NotNull final double[] array, @NotNull final int[] ranks) {
+        int last = array.length - 1;
+        for (int i = last; i >= 0; i--) {
+            final double value = array[i];
+            if (value != value) {
+                array[i] = array[last];
+                array[last--] = value;
+            }
+        }
+
+        final int to = firstRankAtLeast(ranks, 0, ranks.length, last + 1);
+        multiSelect(array, 0, last, ranks, 0, to);
+
+        for (int r = 0; r < to; r++) {
+            if (array[ranks[r]] == 0.0) {
+                orderZeros(array, last);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rewrites the zeros in array[0..last] so that every {@code -0.0} precedes every {@code 0.0}.
+     */
+    private static void orderZeros(@NotNull final double[] array, final int last) {
+        int negativeZeros = 0;
+        for (int i = 0; i <= last; i++) {
+            if (array[i] == 0.0 && Double.doubleToRawLongBits(array[i]) < 0) {
+                negativeZeros++;
+            }
+        }
+        for (int i = 0; i <= last; i++) {
+            if (array[i] == 0.0) {
+                array[i] = negativeZeros-- > 0 ? -0.0 : 0.0;
+            }
+        }
+    }
+
+    private static void introSelect(@NotNull final int[] array, int low, int high, final int k) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high)
+                    : QuickSort.choosePivot(array, low, high);
+            final int p = QuickSort.partition(array, low, high, pivotIndex);
+
+            if (p == k) {
+                return;
+            } else if (k < p) {
+                high = p - 1;
+            } else {
+                low = p + 1;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+
+        InsertionSort.insertionSort(array, low, high);
+    }
+
+    private static void multiSelect(@NotNull final int[] array,
+                                    int low,
+                                    int high,
+                                    @NotNull final int[] ranks,
+                                    int from,
+                                    int to) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (from < to) {
+            if (from + 1 == to) {
+                introSelect(array, low, high, ranks[from]);
+                return;
+            }
+            if (high - low + 1 <= INSERTION_SORT_THRESHOLD) {
+                InsertionSort.insertionSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high)
+                    : QuickSort.choosePivot(array, low, high);
+            final int p = QuickSort.partition(array, low, high, pivotIndex);
+
+            final int split = firstRankAtLeast(ranks, from, to, p);
+            final int after = firstRankAtLeast(ranks, split, to, p + 1);
+
+            if (split - from < to - after) {
+                multiSelect(array, low, p - 1, ranks, from, split);
+                low = p + 1;
+                from = after;
+            } else {
+                multiSelect(array, p + 1, high, ranks, after, to);
+                high = p - 1;
+                to = split;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+    }
+
+    private static int medianOfMedians(@NotNull final int[] array, final int low, final int high) {
+        int medians = low;
+        for (int group = low; group <= high; group += 5) {
+            final int end = Math.min(group + 4, high);
+            InsertionSort.insertionSort(array, group, end);
+            swap(array, medians++, group + (end - group) / 2);
+        }
+
+        final int mid = low + (medians - low - 1) / 2;
+        introSelect(array, low, medians - 1, mid);
+        return mid;
+    }
+
+    private static void swap(@NotNull final int[] array, final int i, final int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSelect(@NotNull final long[] array, int low, int high, final int k) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high)
+                    : QuickSort.choosePivot(array, low, high);
+            final int p = QuickSort.partition(array, low, high, pivotIndex);
+
+            if (p == k) {
+                return;
+            } else if (k < p) {
+                high = p - 1;
+            } else {
+                low = p + 1;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+
+        InsertionSort.insertionSort(array, low, high);
+    }
+
+    private static void multiSelect(@NotNull final long[] array,
+                                    int low,
+                                    int high,
+                                    @NotNull final int[] ranks,
+                                    int from,
+                                    int to) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (from < to) {
+            if (from + 1 == to) {
+                introSelect(array, low, high, ranks[from]);
+                return;
+            }
+            if (high - low + 1 <= INSERTION_SORT_THRESHOLD) {
+                InsertionSort.insertionSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high)
+                    : QuickSort.choosePivot(array, low, high);
+            final int p = QuickSort.partition(array, low, high, pivotIndex);
+
+            final int split = firstRankAtLeast(ranks, from, to, p);
+            final int after = firstRankAtLeast(ranks, split, to, p + 1);
+
+            if (split - from < to - after) {
+                multiSelect(array, low, p - 1, ranks, from, split);
+                low = p + 1;
+                from = after;
+            } else {
+                multiSelect(array, p + 1, high, ranks, after, to);
+                high = p - 1;
+                to = split;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+    }
+
+    private static int medianOfMedians(@NotNull final long[] array, final int low, final int high) {
+        int medians = low;
+        for (int group = low; group <= high; group += 5) {
+            final int end = Math.min(group + 4, high);
+            InsertionSort.insertionSort(array, group, end);
+            swap(array, medians++, group + (end - group) / 2);
+        }
+
+        final int mid = low + (medians - low - 1) / 2;
+        introSelect(array, low, medians - 1, mid);
+        return mid;
+    }
+
+    private static void swap(@NotNull final long[] array, final int i, final int j) {
+        final long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSelect(@NotNull final double[] array, int low, int high, final int k) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high)
+                    : QuickSort.choosePivot(array, low, high);
+            final int p = QuickSort.partition(array, low, high, pivotIndex);
+
+            if (p == k) {
+                return;
+            } else if (k < p) {
+                high = p - 1;
+            } else {
+                low = p + 1;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+
+        InsertionSort.insertionSort(array, low, high);
+    }
+
+    private static void multiSelect(@NotNull final double[] array,
+                                    int low,
+                                    int high,
+                                    @NotNull final int[] ranks,
+                                    int from,
+                                    int to) {
+        boolean linear = false;
+        int steps = 0;
+        int target = (high - low + 1) / 2;
+
+        while (from < to) {
+            if (from + 1 == to) {
+                introSelect(array, low, high, ranks[from]);
+                return;
+            }
+            if (high - low + 1 <= INSERTION_SORT_THRESHOLD) {
+                InsertionSort.insertionSort(array, low, high);
+                return;
+            }
+
+            final int pivotIndex = linear
+                    ? medianOfMedians(array, low, high)
+                    : QuickSort.choosePivot(array, low, high);
+            final int p = QuickSort.partition(array, low, high, pivotIndex);
+
+            final int split = firstRankAtLeast(ranks, from, to, p);
+            final int after = firstRankAtLeast(ranks, split, to, p + 1);
+
+            if (split - from < to - after) {
+                multiSelect(array, low, p - 1, ranks, from, split);
+                low = p + 1;
+                from = after;
+            } else {
+                multiSelect(array, p + 1, high, ranks, after, to);
+                high = p - 1;
+                to = split;
+            }
+
+            if (!linear && (++steps & 1) == 0) {
+                final int size = high - low + 1;
+                linear = size > target;
+                target = size / 2;
+            }
+        }
+    }
+
+    private static int medianOfMedians(@NotNull final double[] array, final int low, final int high) {
+        int medians = low;
+        for (int group = low; group <= high; group += 5) {
+            final int end = Math.min(group + 4, high);
+            InsertionSort.insertionSort(array, group, end);
+            swap(array, medians++, group + (end - group) / 2);
+        }
+
+        final int mid = low + (medians - low - 1) / 2;
+        introSelect(array, low, medians - 1, mid);
+        return mid;
+    }
+
+    private static void swap(@NotNull final double[] array, final int i, final int j) {
+        final double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
\ No newline at end of file
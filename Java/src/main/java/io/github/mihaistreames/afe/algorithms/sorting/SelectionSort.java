@@ -51,6 +51,7 @@ public final class SelectionSort {
      * Sorts the list using the provided comparator and selection sort.
      * <p>
      * The sort is not stable and performs O(n²) comparisons but only O(n) swaps.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -62,25 +63,64 @@ public final class SelectionSort {
         Objects.requireNonNull(list, "List cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
 
-        final int n = list.size();
-        if (n <= 1) {
+        if (list.size() <= 1) {
             return;
         }
 
-        for (int i = 0; i < n - 1; i++) {
-            // Find the minimum element in the remaining unsorted array
-            int minIndex = i;
-            for (int j = i + 1; j < n; j++) {
-                if (comparator.compare(list.get(j), list.get(minIndex)) < 0) {
-                    minIndex = j;
-                }
-            }
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
 
-            // Swap the found minimum element with the first element
-            if (minIndex != i) {
-                Collections.swap(list, i, minIndex);
-            }
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using selection sort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and selection sort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
+
+        if (toIndex - fromIndex <= 1) {
+            return;
         }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -88,8 +128,7 @@ public final class SelectionSort {
     /**
      * Sorts the array in ascending natural order using selection sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>   the type of elements, must extend {@link Comparable}
@@ -98,15 +137,13 @@ public final class SelectionSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and selection sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>        the type of elements
@@ -117,7 +154,79 @@ public final class SelectionSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+        selectionSort(array, 0, array.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using selection sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and selection sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        selectionSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Sorts array[low..high] in place using selection sort.
+     */
+    private static <T> void selectionSort(@NotNull final T[] array,
+                                          final int low,
+                                          final int high,
+                                          @NotNull final Comparator<T> comparator) {
+        for (int i = low; i < high; i++) {
+            // Find the minimum element in the remaining unsorted range
+            int minIndex = i;
+            for (int j = i + 1; j <= high; j++) {
+                if (comparator.compare(array[j], array[minIndex]) < 0) {
+                    minIndex = j;
+                }
+            }
+
+            // Swap the found minimum element with the first element
+            if (minIndex != i) {
+                final T temp = array[i];
+                array[i] = array[minIndex];
+                array[minIndex] = temp;
+            }
+        }
     }
 }
\ No newline at end of file
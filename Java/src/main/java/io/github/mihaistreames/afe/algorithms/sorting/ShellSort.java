@@ -2,7 +2,6 @@ package io.github.mihaistreames.afe.algorithms.sorting;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -27,6 +26,18 @@ import java.util.Objects;
  */
 public final class ShellSort {
 
+    /**
+     * Gap sequence used by the list and object array overloads that do not take one.
+     * Ciura's gaps need the fewest comparisons, which dominate with user comparators.
+     */
+    public static final GapSequence DEFAULT_GAP_SEQUENCE = GapSequence.CIURA;
+
+    /**
+     * Gap sequence used by the primitive array overloads that do not take one.
+     * Comparisons are cheap there, and Sedgewick's gaps need the fewest passes over the array.
+     */
+    public static final GapSequence DEFAULT_PRIMITIVE_GAP_SEQUENCE = GapSequence.SEDGEWICK;
+
     private ShellSort() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
@@ -36,8 +47,8 @@ public final class ShellSort {
     /**
      * Sorts the list in ascending natural order using shell sort.
      * <p>
-     * The list elements must implement {@link Comparable}. Uses Knuth's gap sequence
-     * (3k + 1) for optimal performance characteristics.
+     * The list elements must implement {@link Comparable}. Uses Ciura's gap sequence,
+     * see {@link GapSequence#CIURA}.
      * </p>
      *
      * @param <T>  the type of elements, must extend {@link Comparable}
@@ -52,7 +63,8 @@ public final class ShellSort {
     /**
      * Sorts the list using the provided comparator and shell sort.
      * <p>
-     * Uses Knuth's gap sequence (3k + 1) for optimal performance characteristics.
+     * Uses Ciura's gap sequence, see {@link GapSequence#CIURA}.
+     * The list is copied into an array, sorted, and written back in a single pass.
      * </p>
      *
      * @param <T>        the type of elements
@@ -64,36 +76,64 @@ public final class ShellSort {
         Objects.requireNonNull(list, "List cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
 
-        final int n = list.size();
-        if (n <= 1) {
+        if (list.size() <= 1) {
             return;
         }
 
-        // Start with a big gap, then reduce the gap using Knuth's sequence
-        int gap = 1;
-        while (gap < n / 3) {
-            gap = 3 * gap + 1; // Knuth's gap sequence: 1, 4, 13, 40, 121, ...
-        }
-
-        while (gap >= 1) {
-            // Do a gapped insertion sort for this gap size
-            for (int i = gap; i < n; i++) {
-                final T key = list.get(i);
-                int j = i;
+        SortingUtils.sortThroughArray(list, array -> sort(array, comparator));
+    }
 
-                // Shift earlier gap-sorted elements up until the correct location for key is found
-                while (j >= gap && comparator.compare(list.get(j - gap), key) > 0) {
-                    list.set(j, list.get(j - gap));
-                    j -= gap;
-                }
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list in ascending natural order using shell sort.
+     * <p>
+     * Elements outside the range are left untouched. The list elements must implement
+     * {@link Comparable}.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException      if the list is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, fromIndex, toIndex, Comparable::compareTo);
+    }
 
-                // Put key in its correct location
-                list.set(j, key);
-            }
+    /**
+     * Sorts the range [fromIndex, toIndex) of the list using the provided comparator and shell sort.
+     * <p>
+     * Elements outside the range are left untouched. Only the range is copied into an array,
+     * sorted, and written back, so the rest of the list is never read.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException      if the list or comparator is null
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkListRange(list.size(), fromIndex, toIndex);
 
-            // Reduce gap for next iteration
-            gap = gap / 3;
+        if (toIndex - fromIndex <= 1) {
+            return;
         }
+
+        SortingUtils.sortRangeThroughArray(list, fromIndex, toIndex, array -> sort(array, comparator));
     }
 
     // ========== PUBLIC API - Array Operations ==========
@@ -101,8 +141,7 @@ public final class ShellSort {
     /**
      * Sorts the array in ascending natural order using shell sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>   the type of elements, must extend {@link Comparable}
@@ -111,15 +150,13 @@ public final class ShellSort {
      */
     public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
         Objects.requireNonNull(array, "Array cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list);
+        sort(array, Comparable::compareTo);
     }
 
     /**
      * Sorts the array using the provided comparator and shell sort.
      * <p>
-     * Convenience method that converts the array to a list and sorts it.
-     * Changes are reflected in the original array.
+     * The array is sorted in place.
      * </p>
      *
      * @param <T>        the type of elements
@@ -130,7 +167,660 @@ public final class ShellSort {
     public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
         Objects.requireNonNull(array, "Array cannot be null");
         Objects.requireNonNull(comparator, "Comparator cannot be null");
-        final List<T> list = Arrays.asList(array);
-        sort(list, comparator);
+        shellSort(array, 0, array.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using shell sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and shell sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        shellSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using shell sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        shellSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using shell sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        shellSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using shell sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        shellSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using shell sort.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        shellSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using shell sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1, ShellSort::shellSort);
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using shell sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException if the array is null
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1, ShellSort::shellSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using shell sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        shellSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using shell sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        shellSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code short} values into ascending
+     * numerical order using shell sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final short[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        shellSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code char} values into ascending
+     * numerical order using shell sort.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final char[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        shellSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using shell sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, ShellSort::shellSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using shell sort.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, ShellSort::shellSort);
+    }
+
+    // ========== PUBLIC API - Gap Sequence Operations ==========
+
+    /**
+     * Sorts the list in ascending natural order using shell sort with the given gap sequence.
+     *
+     * @param <T>      the type of elements, must extend {@link Comparable}
+     * @param list     the list to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the list or sequence is null
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list,
+                                                      @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, sequence, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and shell sort with the given gap sequence.
+     * <p>
+     * The list is copied into an array, sorted, and written back in a single pass.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param sequence   the gap sequence to use
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the list, sequence or comparator is null
+     */
+    public static <T> void sort(@NotNull final List<T> list,
+                                @NotNull final GapSequence sequence,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> shellSort(array, 0, array.length - 1, sequence, comparator));
+    }
+
+    /**
+     * Sorts the array in ascending natural order using shell sort with the given gap sequence.
+     *
+     * @param <T>      the type of elements, must extend {@link Comparable}
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, sequence, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and shell sort with the given gap sequence.
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param sequence   the gap sequence to use
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException if the array, sequence or comparator is null
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                @NotNull final GapSequence sequence,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        shellSort(array, 0, array.length - 1, sequence, comparator);
+    }
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using shell sort
+     * with the given gap sequence.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static void sort(@NotNull final int[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        shellSort(array, 0, array.length - 1, sequence);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using shell sort
+     * with the given gap sequence.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static void sort(@NotNull final long[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        shellSort(array, 0, array.length - 1, sequence);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using shell sort
+     * with the given gap sequence.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static void sort(@NotNull final short[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        shellSort(array, 0, array.length - 1, sequence);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using shell sort
+     * with the given gap sequence.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static void sort(@NotNull final char[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        shellSort(array, 0, array.length - 1, sequence);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using shell sort
+     * with the given gap sequence.
+     * <p>
+     * NaN values are placed last and {@code -0.0f} before {@code 0.0f}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static void sort(@NotNull final float[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        SortingUtils.sortFloats(array, 0, array.length - 1,
+                (values, low, high) -> shellSort(values, low, high, sequence));
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using shell sort
+     * with the given gap sequence.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array    the array to sort
+     * @param sequence the gap sequence to use
+     * @throws NullPointerException if the array or sequence is null
+     */
+    public static void sort(@NotNull final double[] array, @NotNull final GapSequence sequence) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(sequence, "Gap sequence cannot be null");
+        SortingUtils.sortDoubles(array, 0, array.length - 1,
+                (values, low, high) -> shellSort(values, low, high, sequence));
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+
+    /**
+     * Sorts array[low..high] in place using shell sort with the default gap sequence.
+     */
+    private static <T> void shellSort(@NotNull final T[] array,
+                                      final int low,
+                                      final int high,
+                                      @NotNull final Comparator<T> comparator) {
+        shellSort(array, low, high, DEFAULT_GAP_SEQUENCE, comparator);
+    }
+
+    /**
+     * Sorts array[low..high] in place using shell sort with the given gap sequence.
+     */
+    private static <T> void shellSort(@NotNull final T[] array,
+                                      final int low,
+                                      final int high,
+                                      @NotNull final GapSequence sequence,
+                                      @NotNull final Comparator<T> comparator) {
+        final int[] gaps = sequence.table();
+
+        // Start with the largest gap smaller than the range, then work down to 1
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+
+            // Do a gapped insertion sort for this gap size
+            for (int i = low + gap; i <= high; i++) {
+                final T key = array[i];
+                int j = i;
+
+                // Shift earlier gap-sorted elements up until the correct location for key is found
+                while (j - gap >= low && comparator.compare(array[j - gap], key) > 0) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                // Put key in its correct location
+                array[j] = key;
+            }
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Primitive Kernels ==========
+
+    /**
+     * Sorts array[low..high] of {@code int} values in place using shell sort with the default gaps.
+     */
+    private static void shellSort(@NotNull final int[] array, final int low, final int high) {
+        shellSort(array, low, high, DEFAULT_PRIMITIVE_GAP_SEQUENCE);
+    }
+
+    private static void shellSort(@NotNull final int[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final GapSequence sequence) {
+        final int[] gaps = sequence.table();
+
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+            for (int i = low + gap; i <= high; i++) {
+                final int key = array[i];
+                int j = i;
+
+                while (j - gap >= low && array[j - gap] > key) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                array[j] = key;
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values in place using shell sort with the default gaps.
+     */
+    private static void shellSort(@NotNull final long[] array, final int low, final int high) {
+        shellSort(array, low, high, DEFAULT_PRIMITIVE_GAP_SEQUENCE);
+    }
+
+    private static void shellSort(@NotNull final long[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final GapSequence sequence) {
+        final int[] gaps = sequence.table();
+
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+            for (int i = low + gap; i <= high; i++) {
+                final long key = array[i];
+                int j = i;
+
+                while (j - gap >= low && array[j - gap] > key) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                array[j] = key;
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values in place using shell sort with the default gaps.
+     */
+    private static void shellSort(@NotNull final short[] array, final int low, final int high) {
+        shellSort(array, low, high, DEFAULT_PRIMITIVE_GAP_SEQUENCE);
+    }
+
+    private static void shellSort(@NotNull final short[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final GapSequence sequence) {
+        final int[] gaps = sequence.table();
+
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+            for (int i = low + gap; i <= high; i++) {
+                final short key = array[i];
+                int j = i;
+
+                while (j - gap >= low && array[j - gap] > key) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                array[j] = key;
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values in place using shell sort with the default gaps.
+     */
+    private static void shellSort(@NotNull final char[] array, final int low, final int high) {
+        shellSort(array, low, high, DEFAULT_PRIMITIVE_GAP_SEQUENCE);
+    }
+
+    private static void shellSort(@NotNull final char[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final GapSequence sequence) {
+        final int[] gaps = sequence.table();
+
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+            for (int i = low + gap; i <= high; i++) {
+                final char key = array[i];
+                int j = i;
+
+                while (j - gap >= low && array[j - gap] > key) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                array[j] = key;
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values in place using shell sort with the default gaps.
+     */
+    private static void shellSort(@NotNull final float[] array, final int low, final int high) {
+        shellSort(array, low, high, DEFAULT_PRIMITIVE_GAP_SEQUENCE);
+    }
+
+    private static void shellSort(@NotNull final float[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final GapSequence sequence) {
+        final int[] gaps = sequence.table();
+
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+            for (int i = low + gap; i <= high; i++) {
+                final float key = array[i];
+                int j = i;
+
+                while (j - gap >= low && array[j - gap] > key) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                array[j] = key;
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values in place using shell sort with the default gaps.
+     */
+    private static void shellSort(@NotNull final double[] array, final int low, final int high) {
+        shellSort(array, low, high, DEFAULT_PRIMITIVE_GAP_SEQUENCE);
+    }
+
+    private static void shellSort(@NotNull final double[] array,
+                                  final int low,
+                                  final int high,
+                                  @NotNull final GapSequence sequence) {
+        final int[] gaps = sequence.table();
+
+        for (int g = sequence.start(high - low + 1); g >= 0; g--) {
+            final int gap = gaps[g];
+            for (int i = low + gap; i <= high; i++) {
+                final double key = array[i];
+                int j = i;
+
+                while (j - gap >= low && array[j - gap] > key) {
+                    array[j] = array[j - gap];
+                    j -= gap;
+                }
+
+                array[j] = key;
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable auxiliary memory for sorting algorithms that need scratch space.
+ * <p>
+ * Passing the same workspace to repeated sorts lets them run without allocating once the
+ * buffers have grown to the largest input seen. Buffers grow on demand and are kept between
+ * calls; their contents are cleared after every sort, so a workspace never keeps sorted
+ * elements reachable.
+ * </p>
+ * <p>
+ * A workspace is not thread-safe and must not be used by two sorts at the same time.
+ * {@link #forCurrentThread()} returns a lazily created workspace bound to the calling thread.
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class SortWorkspace {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final ThreadLocal<SortWorkspace> THREAD_WORKSPACE = ThreadLocal.withInitial(SortWorkspace::new);
+
+    private Object[] elements = EMPTY;  // Holds list contents while they are sorted as an array
+    private Object[] scratch = EMPTY;   // Merge buffer
+
+    /**
+     * Constructs an empty workspace that grows on first use.
+     */
+    public SortWorkspace() {
+    }
+
+    /**
+     * Constructs a workspace sized for sorting inputs of up to the given length without growing.
+     *
+     * @param expectedLength the largest input length expected
+     * @throws IllegalArgumentException if expectedLength is negative
+     */
+    public SortWorkspace(final int expectedLength) {
+        if (expectedLength < 0) {
+            throw new IllegalArgumentException("Expected length cannot be negative: " + expectedLength);
+        }
+        this.elements = new Object[expectedLength];
+        this.scratch = new Object[expectedLength];
+    }
+
+    // ========== PUBLIC API ==========
+
+    /**
+     * Returns the workspace bound to the calling thread, creating it on first use.
+     * <p>
+     * The workspace lives as long as the thread does. Call {@link #release()} on it to give
+     * its memory back after an unusually large sort.
+     * </p>
+     *
+     * @return the calling thread's workspace
+     */
+    public static SortWorkspace forCurrentThread() {
+        return THREAD_WORKSPACE.get();
+    }
+
+    /**
+     * Drops all buffers held by this workspace so their memory can be reclaimed.
+     */
+    public void release() {
+        elements = EMPTY;
+        scratch = EMPTY;
+    }
+
+    // ========== INTERNAL API ==========
+
+    /**
+     * Copies the list into the element buffer, growing it if needed.
+     * <p>
+     * Only the first {@code list.size()} entries of the returned array are meaningful.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    <T> T[] copyOf(@NotNull final List<T> list) {
+        final int length = list.size();
+        if (elements.length < length) {
+            elements = new Object[grow(elements.length, length)];
+        }
+        return (T[]) list.toArray(elements);
+    }
+
+    /**
+     * Returns a scratch buffer of at least the given length.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T[] scratch(final int length) {
+        if (scratch.length < length) {
+            scratch = new Object[grow(scratch.length, length)];
+        }
+        return (T[]) scratch;
+    }
+
+    /**
+     * Clears the references left in the buffers by a sort of the given length.
+     */
+    void clear(final int length) {
+        Arrays.fill(elements, 0, Math.min(length, elements.length), null);
+        Arrays.fill(scratch, 0, Math.min(length, scratch.length), null);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Grows by at least half the current capacity so slowly increasing sizes reallocate rarely.
+     */
+    private static int grow(final int capacity, final int required) {
+        final int grown = capacity + (capacity >> 1);
+        return grown > required && grown > 0 ? grown : required;
+    }
+}
\ No newline at end of file
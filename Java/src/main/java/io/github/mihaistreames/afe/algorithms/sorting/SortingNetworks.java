@@ -0,0 +1,4489 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sorting networks for inputs of at most {@value #MAX_LENGTH} elements.
+ * <p>
+ * A sorting network is a fixed sequence of compare-exchange operations that sorts every
+ * input of its size. The sequence does not depend on the data, so each size is unrolled into
+ * straight-line code, and for primitive values every compare-exchange is branch-free. On
+ * tiny inputs this avoids the mispredicted branches of insertion sort, which makes the
+ * networks two to three times faster for primitives. The networks are the
+ * smallest known for each size, proven optimal for up to 12 elements; the 16-element
+ * network uses 60 compare-exchanges in 10 layers.
+ * </p>
+ * <p>
+ * Inputs longer than {@value #MAX_LENGTH} elements are rejected. The primitive kernels also
+ * finish the small partitions of {@link QuickSort}, {@link MergeSort} and {@link HeapSort}.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(1) - at most 60 compare-exchanges<br>
+ * <strong>Space Complexity:</strong> O(1) additional space<br>
+ * <strong>Stability:</strong> Not stable - may change relative order of equal elements<br>
+ * <strong>In-place:</strong> Yes - sorts in-place with constant extra space
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class SortingNetworks {
+
+    /**
+     * The largest input length the networks can sort.
+     */
+    public static final int MAX_LENGTH = 16;
+
+    private SortingNetworks() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // ========== PUBLIC API - List Operations ==========
+
+    /**
+     * Sorts the list in ascending natural order using a sorting network.
+     * <p>
+     * The list elements must implement {@link Comparable}. The sort is not stable.
+     * </p>
+     *
+     * @param <T>  the type of elements, must extend {@link Comparable}
+     * @param list the list to sort
+     * @throws NullPointerException     if the list is null
+     * @throws IllegalArgumentException if the list has more than {@value #MAX_LENGTH} elements
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final List<T> list) {
+        Objects.requireNonNull(list, "List cannot be null");
+        sort(list, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the list using the provided comparator and a sorting network.
+     * <p>
+     * The sort is not stable. The list is copied into an array, sorted, and written back in a
+     * single pass.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param list       the list to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException     if the list or comparator is null
+     * @throws IllegalArgumentException if the list has more than {@value #MAX_LENGTH} elements
+     */
+    public static <T> void sort(@NotNull final List<T> list, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(list, "List cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkLength(list.size());
+
+        if (list.size() <= 1) {
+            return;
+        }
+
+        SortingUtils.sortThroughArray(list, array -> networkSort(array, 0, array.length - 1, comparator));
+    }
+
+    // ========== PUBLIC API - Array Operations ==========
+
+    /**
+     * Sorts the array in ascending natural order using a sorting network.
+     *
+     * @param <T>   the type of elements, must extend {@link Comparable}
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the array using the provided comparator and a sorting network.
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException     if the array or comparator is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static <T> void sort(@NotNull final T[] array, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkLength(array.length);
+        networkSort(array, 0, array.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array in ascending natural order using a
+     * sorting network.
+     *
+     * @param <T>       the type of elements, must extend {@link Comparable}
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull final T[] array,
+                                                      final int fromIndex,
+                                                      final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        sort(array, fromIndex, toIndex, Comparable::compareTo);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array using the provided comparator and a
+     * sorting network.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param <T>        the type of elements
+     * @param array      the array to sort
+     * @param fromIndex  the index of the first element to sort, inclusive
+     * @param toIndex    the index of the last element to sort, exclusive
+     * @param comparator the comparator to determine element order
+     * @throws NullPointerException           if the array or comparator is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static <T> void sort(@NotNull final T[] array,
+                                final int fromIndex,
+                                final int toIndex,
+                                @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        networkSort(array, fromIndex, toIndex - 1, comparator);
+    }
+
+    // ========== PUBLIC API - Primitive Array Operations ==========
+
+
+    /**
+     * Sorts the array of {@code int} values into ascending numerical order using a sorting network.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(@NotNull final int[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkLength(array.length);
+        networkSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code long} values into ascending numerical order using a sorting network.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(@NotNull final long[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkLength(array.length);
+        networkSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code short} values into ascending numerical order using a sorting network.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(@NotNull final short[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkLength(array.length);
+        networkSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code char} values into ascending numerical order using a sorting network.
+     * <p>
+     * The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(@NotNull final char[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkLength(array.length);
+        networkSort(array, 0, array.length - 1);
+    }
+
+    /**
+     * Sorts the array of {@code float} values into ascending numerical order using a sorting network.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(@NotNull final float[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkLength(array.length);
+        SortingUtils.sortFloats(array, 0, array.length - 1, SortingNetworks::networkSort);
+    }
+
+    /**
+     * Sorts the array of {@code double} values into ascending numerical order using a sorting network.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. The array is sorted in place without boxing or allocation.
+     * </p>
+     *
+     * @param array the array to sort
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(@NotNull final double[] array) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        checkLength(array.length);
+        SortingUtils.sortDoubles(array, 0, array.length - 1, SortingNetworks::networkSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code int} values into ascending
+     * numerical order using a sorting network.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final int[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        networkSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code long} values into ascending
+     * numerical order using a sorting network.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final long[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        networkSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code short} values into ascending
+     * numerical order using a sorting network.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final short[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        networkSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code char} values into ascending
+     * numerical order using a sorting network.
+     * <p>
+     * Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final char[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        networkSort(array, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code float} values into ascending
+     * numerical order using a sorting network.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Float#compare(float, float)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final float[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        SortingUtils.sortFloats(array, fromIndex, toIndex - 1, SortingNetworks::networkSort);
+    }
+
+    /**
+     * Sorts the range [fromIndex, toIndex) of the array of {@code double} values into ascending
+     * numerical order using a sorting network.
+     * <p>
+     * NaN values are placed last and {@code -0.0} before {@code 0.0}, consistent with
+     * {@link Double#compare(double, double)}. Elements outside the range are left untouched.
+     * </p>
+     *
+     * @param array     the array to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @throws NullPointerException           if the array is null
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex or the range has more than
+     *                                        {@value #MAX_LENGTH} elements
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; array.length
+     */
+    public static void sort(@NotNull final double[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array, "Array cannot be null");
+        SortingUtils.checkArrayRange(array.length, fromIndex, toIndex);
+        checkLength(toIndex - fromIndex);
+        SortingUtils.sortDoubles(array, fromIndex, toIndex - 1, SortingNetworks::networkSort);
+    }
+
+    // ========== INTERNAL API - Array Kernels ==========
+
+    /**
+     * Sorts array[low..high] in place with the network for its length, which must be at most
+     * {@value #MAX_LENGTH}.
+     */
+    static <T> void networkSort(@NotNull final T[] array,
+                                final int low,
+                                final int high,
+                                @NotNull final Comparator<T> comparator) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low, comparator);
+            case 3 -> network3(array, low, comparator);
+            case 4 -> network4(array, low, comparator);
+            case 5 -> network5(array, low, comparator);
+            case 6 -> network6(array, low, comparator);
+            case 7 -> network7(array, low, comparator);
+            case 8 -> network8(array, low, comparator);
+            case 9 -> network9(array, low, comparator);
+            case 10 -> network10(array, low, comparator);
+            case 11 -> network11(array, low, comparator);
+            case 12 -> network12(array, low, comparator);
+            case 13 -> network13(array, low, comparator);
+            case 14 -> network14(array, low, comparator);
+            case 15 -> network15(array, low, comparator);
+            case 16 -> network16(array, low, comparator);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code int} values in place with the network for its length,
+     * which must be at most {@value #MAX_LENGTH}.
+     */
+    static void networkSort(@NotNull final int[] array, final int low, final int high) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low);
+            case 3 -> network3(array, low);
+            case 4 -> network4(array, low);
+            case 5 -> network5(array, low);
+            case 6 -> network6(array, low);
+            case 7 -> network7(array, low);
+            case 8 -> network8(array, low);
+            case 9 -> network9(array, low);
+            case 10 -> network10(array, low);
+            case 11 -> network11(array, low);
+            case 12 -> network12(array, low);
+            case 13 -> network13(array, low);
+            case 14 -> network14(array, low);
+            case 15 -> network15(array, low);
+            case 16 -> network16(array, low);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code long} values in place with the network for its length,
+     * which must be at most {@value #MAX_LENGTH}.
+     */
+    static void networkSort(@NotNull final long[] array, final int low, final int high) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low);
+            case 3 -> network3(array, low);
+            case 4 -> network4(array, low);
+            case 5 -> network5(array, low);
+            case 6 -> network6(array, low);
+            case 7 -> network7(array, low);
+            case 8 -> network8(array, low);
+            case 9 -> network9(array, low);
+            case 10 -> network10(array, low);
+            case 11 -> network11(array, low);
+            case 12 -> network12(array, low);
+            case 13 -> network13(array, low);
+            case 14 -> network14(array, low);
+            case 15 -> network15(array, low);
+            case 16 -> network16(array, low);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code short} values in place with the network for its length,
+     * which must be at most {@value #MAX_LENGTH}.
+     */
+    static void networkSort(@NotNull final short[] array, final int low, final int high) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low);
+            case 3 -> network3(array, low);
+            case 4 -> network4(array, low);
+            case 5 -> network5(array, low);
+            case 6 -> network6(array, low);
+            case 7 -> network7(array, low);
+            case 8 -> network8(array, low);
+            case 9 -> network9(array, low);
+            case 10 -> network10(array, low);
+            case 11 -> network11(array, low);
+            case 12 -> network12(array, low);
+            case 13 -> network13(array, low);
+            case 14 -> network14(array, low);
+            case 15 -> network15(array, low);
+            case 16 -> network16(array, low);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code char} values in place with the network for its length,
+     * which must be at most {@value #MAX_LENGTH}.
+     */
+    static void networkSort(@NotNull final char[] array, final int low, final int high) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low);
+            case 3 -> network3(array, low);
+            case 4 -> network4(array, low);
+            case 5 -> network5(array, low);
+            case 6 -> network6(array, low);
+            case 7 -> network7(array, low);
+            case 8 -> network8(array, low);
+            case 9 -> network9(array, low);
+            case 10 -> network10(array, low);
+            case 11 -> network11(array, low);
+            case 12 -> network12(array, low);
+            case 13 -> network13(array, low);
+            case 14 -> network14(array, low);
+            case 15 -> network15(array, low);
+            case 16 -> network16(array, low);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code float} values in place with the network for its length,
+     * which must be at most {@value #MAX_LENGTH}.
+     */
+    static void networkSort(@NotNull final float[] array, final int low, final int high) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low);
+            case 3 -> network3(array, low);
+            case 4 -> network4(array, low);
+            case 5 -> network5(array, low);
+            case 6 -> network6(array, low);
+            case 7 -> network7(array, low);
+            case 8 -> network8(array, low);
+            case 9 -> network9(array, low);
+            case 10 -> network10(array, low);
+            case 11 -> network11(array, low);
+            case 12 -> network12(array, low);
+            case 13 -> network13(array, low);
+            case 14 -> network14(array, low);
+            case 15 -> network15(array, low);
+            case 16 -> network16(array, low);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    /**
+     * Sorts array[low..high] of {@code double} values in place with the network for its length,
+     * which must be at most {@value #MAX_LENGTH}.
+     */
+    static void networkSort(@NotNull final double[] array, final int low, final int high) {
+        switch (high - low + 1) {
+            case 2 -> network2(array, low);
+            case 3 -> network3(array, low);
+            case 4 -> network4(array, low);
+            case 5 -> network5(array, low);
+            case 6 -> network6(array, low);
+            case 7 -> network7(array, low);
+            case 8 -> network8(array, low);
+            case 9 -> network9(array, low);
+            case 10 -> network10(array, low);
+            case 11 -> network11(array, low);
+            case 12 -> network12(array, low);
+            case 13 -> network13(array, low);
+            case 14 -> network14(array, low);
+            case 15 -> network15(array, low);
+            case 16 -> network16(array, low);
+            default -> {
+                // Nothing to sort
+            }
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION ==========
+    //
+    // One method per length. Blank lines separate the layers of a network: the compare-exchanges
+    // within a layer touch disjoint positions and are independent of each other. The networks were
+    // checked against all 2^n inputs of zeros and ones, which by the 0-1 principle proves that
+    // they sort every input of their length.
+
+    private static <T> void network2(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 1, comparator);
+    }
+
+    private static <T> void network3(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 2, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+    }
+
+    private static <T> void network4(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 3, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+    }
+
+    private static <T> void network5(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 3, comparator);
+        exchange(array, low, 1, 4, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 4, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+    }
+
+    private static <T> void network6(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 5, comparator);
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 2, 4, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+
+        exchange(array, low, 0, 3, comparator);
+        exchange(array, low, 2, 5, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+    }
+
+    private static <T> void network7(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 6, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 5, comparator);
+        exchange(array, low, 3, 4, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 4, 6, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+    }
+
+    private static <T> void network8(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+
+        exchange(array, low, 0, 4, comparator);
+        exchange(array, low, 1, 5, comparator);
+        exchange(array, low, 2, 6, comparator);
+        exchange(array, low, 3, 7, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 5, comparator);
+
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+    }
+
+    private static <T> void network9(@NotNull final T[] array,
+                                     final int low,
+                                     @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 3, comparator);
+        exchange(array, low, 1, 7, comparator);
+        exchange(array, low, 2, 5, comparator);
+        exchange(array, low, 4, 8, comparator);
+
+        exchange(array, low, 0, 7, comparator);
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 8, comparator);
+        exchange(array, low, 5, 6, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 7, 8, comparator);
+
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 6, 8, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+    }
+
+    private static <T> void network10(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 8, comparator);
+        exchange(array, low, 1, 9, comparator);
+        exchange(array, low, 2, 7, comparator);
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 4, 6, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 5, 8, comparator);
+        exchange(array, low, 7, 9, comparator);
+
+        exchange(array, low, 0, 3, comparator);
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 5, 7, comparator);
+        exchange(array, low, 6, 9, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 8, 9, comparator);
+
+        exchange(array, low, 1, 5, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 8, comparator);
+        exchange(array, low, 6, 7, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+    }
+
+    private static <T> void network11(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 9, comparator);
+        exchange(array, low, 1, 6, comparator);
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 7, comparator);
+        exchange(array, low, 5, 8, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 4, 10, comparator);
+        exchange(array, low, 6, 9, comparator);
+        exchange(array, low, 7, 8, comparator);
+
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 2, 5, comparator);
+        exchange(array, low, 4, 7, comparator);
+        exchange(array, low, 8, 10, comparator);
+
+        exchange(array, low, 0, 4, comparator);
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 7, comparator);
+        exchange(array, low, 5, 9, comparator);
+        exchange(array, low, 6, 8, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 6, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+    }
+
+    private static <T> void network12(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 8, comparator);
+        exchange(array, low, 1, 7, comparator);
+        exchange(array, low, 2, 6, comparator);
+        exchange(array, low, 3, 11, comparator);
+        exchange(array, low, 4, 10, comparator);
+        exchange(array, low, 5, 9, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 5, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 6, 9, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 10, 11, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 6, comparator);
+        exchange(array, low, 5, 10, comparator);
+        exchange(array, low, 9, 11, comparator);
+
+        exchange(array, low, 0, 3, comparator);
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+        exchange(array, low, 8, 11, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 6, 8, comparator);
+        exchange(array, low, 7, 10, comparator);
+
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 2, 5, comparator);
+        exchange(array, low, 6, 9, comparator);
+        exchange(array, low, 8, 10, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+    }
+
+    private static <T> void network13(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 12, comparator);
+        exchange(array, low, 1, 10, comparator);
+        exchange(array, low, 2, 9, comparator);
+        exchange(array, low, 3, 7, comparator);
+        exchange(array, low, 5, 11, comparator);
+        exchange(array, low, 6, 8, comparator);
+
+        exchange(array, low, 1, 6, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 11, comparator);
+        exchange(array, low, 7, 9, comparator);
+        exchange(array, low, 8, 10, comparator);
+
+        exchange(array, low, 0, 4, comparator);
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 9, 10, comparator);
+        exchange(array, low, 11, 12, comparator);
+
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 5, 9, comparator);
+        exchange(array, low, 8, 11, comparator);
+        exchange(array, low, 10, 12, comparator);
+
+        exchange(array, low, 0, 5, comparator);
+        exchange(array, low, 3, 8, comparator);
+        exchange(array, low, 4, 7, comparator);
+        exchange(array, low, 6, 11, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 5, comparator);
+        exchange(array, low, 6, 9, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 10, 11, comparator);
+
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 7, comparator);
+        exchange(array, low, 6, 8, comparator);
+
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+    }
+
+    private static <T> void network14(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+        exchange(array, low, 10, 11, comparator);
+        exchange(array, low, 12, 13, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 4, 8, comparator);
+        exchange(array, low, 5, 9, comparator);
+        exchange(array, low, 10, 12, comparator);
+        exchange(array, low, 11, 13, comparator);
+
+        exchange(array, low, 0, 4, comparator);
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 7, comparator);
+        exchange(array, low, 5, 8, comparator);
+        exchange(array, low, 6, 10, comparator);
+        exchange(array, low, 9, 13, comparator);
+        exchange(array, low, 11, 12, comparator);
+
+        exchange(array, low, 0, 6, comparator);
+        exchange(array, low, 1, 5, comparator);
+        exchange(array, low, 3, 9, comparator);
+        exchange(array, low, 4, 10, comparator);
+        exchange(array, low, 7, 13, comparator);
+        exchange(array, low, 8, 12, comparator);
+
+        exchange(array, low, 2, 10, comparator);
+        exchange(array, low, 3, 11, comparator);
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 7, 9, comparator);
+
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 2, 8, comparator);
+        exchange(array, low, 5, 11, comparator);
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 10, 12, comparator);
+
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 2, 6, comparator);
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 7, 11, comparator);
+        exchange(array, low, 8, 10, comparator);
+        exchange(array, low, 9, 12, comparator);
+
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 5, 8, comparator);
+        exchange(array, low, 7, 10, comparator);
+        exchange(array, low, 9, 11, comparator);
+
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 6, 7, comparator);
+    }
+
+    private static <T> void network15(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 13, comparator);
+        exchange(array, low, 1, 12, comparator);
+        exchange(array, low, 3, 14, comparator);
+        exchange(array, low, 4, 8, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 11, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 0, 5, comparator);
+        exchange(array, low, 1, 7, comparator);
+        exchange(array, low, 2, 9, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 6, 13, comparator);
+        exchange(array, low, 8, 14, comparator);
+        exchange(array, low, 11, 12, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 8, comparator);
+        exchange(array, low, 7, 9, comparator);
+        exchange(array, low, 10, 11, comparator);
+        exchange(array, low, 12, 13, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 4, 10, comparator);
+        exchange(array, low, 5, 11, comparator);
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+        exchange(array, low, 12, 14, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 12, comparator);
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+        exchange(array, low, 8, 10, comparator);
+        exchange(array, low, 9, 11, comparator);
+        exchange(array, low, 13, 14, comparator);
+
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 2, 6, comparator);
+        exchange(array, low, 5, 8, comparator);
+        exchange(array, low, 7, 10, comparator);
+        exchange(array, low, 9, 13, comparator);
+        exchange(array, low, 11, 14, comparator);
+
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 9, 12, comparator);
+        exchange(array, low, 11, 13, comparator);
+
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 6, 8, comparator);
+        exchange(array, low, 7, 9, comparator);
+        exchange(array, low, 10, 12, comparator);
+
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 9, 10, comparator);
+        exchange(array, low, 11, 12, comparator);
+
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+    }
+
+    private static <T> void network16(@NotNull final T[] array,
+                                      final int low,
+                                      @NotNull final Comparator<T> comparator) {
+        exchange(array, low, 0, 13, comparator);
+        exchange(array, low, 1, 12, comparator);
+        exchange(array, low, 2, 15, comparator);
+        exchange(array, low, 3, 14, comparator);
+        exchange(array, low, 4, 8, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 11, comparator);
+        exchange(array, low, 9, 10, comparator);
+
+        exchange(array, low, 0, 5, comparator);
+        exchange(array, low, 1, 7, comparator);
+        exchange(array, low, 2, 9, comparator);
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 6, 13, comparator);
+        exchange(array, low, 8, 14, comparator);
+        exchange(array, low, 10, 15, comparator);
+        exchange(array, low, 11, 12, comparator);
+
+        exchange(array, low, 0, 1, comparator);
+        exchange(array, low, 2, 3, comparator);
+        exchange(array, low, 4, 5, comparator);
+        exchange(array, low, 6, 8, comparator);
+        exchange(array, low, 7, 9, comparator);
+        exchange(array, low, 10, 11, comparator);
+        exchange(array, low, 12, 13, comparator);
+        exchange(array, low, 14, 15, comparator);
+
+        exchange(array, low, 0, 2, comparator);
+        exchange(array, low, 1, 3, comparator);
+        exchange(array, low, 4, 10, comparator);
+        exchange(array, low, 5, 11, comparator);
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+        exchange(array, low, 12, 14, comparator);
+        exchange(array, low, 13, 15, comparator);
+
+        exchange(array, low, 1, 2, comparator);
+        exchange(array, low, 3, 12, comparator);
+        exchange(array, low, 4, 6, comparator);
+        exchange(array, low, 5, 7, comparator);
+        exchange(array, low, 8, 10, comparator);
+        exchange(array, low, 9, 11, comparator);
+        exchange(array, low, 13, 14, comparator);
+
+        exchange(array, low, 1, 4, comparator);
+        exchange(array, low, 2, 6, comparator);
+        exchange(array, low, 5, 8, comparator);
+        exchange(array, low, 7, 10, comparator);
+        exchange(array, low, 9, 13, comparator);
+        exchange(array, low, 11, 14, comparator);
+
+        exchange(array, low, 2, 4, comparator);
+        exchange(array, low, 3, 6, comparator);
+        exchange(array, low, 9, 12, comparator);
+        exchange(array, low, 11, 13, comparator);
+
+        exchange(array, low, 3, 5, comparator);
+        exchange(array, low, 6, 8, comparator);
+        exchange(array, low, 7, 9, comparator);
+        exchange(array, low, 10, 12, comparator);
+
+        exchange(array, low, 3, 4, comparator);
+        exchange(array, low, 5, 6, comparator);
+        exchange(array, low, 7, 8, comparator);
+        exchange(array, low, 9, 10, comparator);
+        exchange(array, low, 11, 12, comparator);
+
+        exchange(array, low, 6, 7, comparator);
+        exchange(array, low, 8, 9, comparator);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j.
+     */
+    private static <T> void exchange(@NotNull final T[] array,
+                                     final int low,
+                                     final int i,
+                                     final int j,
+                                     @NotNull final Comparator<T> comparator) {
+        final T a = array[low + i];
+        final T b = array[low + j];
+        if (comparator.compare(b, a) < 0) {
+            array[low + i] = b;
+            array[low + j] = a;
+        }
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Int Networks ==========
+
+    private static void network2(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 1);
+    }
+
+    private static void network3(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 2);
+
+        exchange(array, low, 0, 1);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network4(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network5(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 4);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 2, 3);
+    }
+
+    private static void network6(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 5);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+    }
+
+    private static void network7(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network8(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network9(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 8);
+
+        exchange(array, low, 0, 7);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 5, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network10(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 9);
+        exchange(array, low, 2, 7);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network11(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 9);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network12(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 5, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 10);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+    }
+
+    private static void network13(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 12);
+        exchange(array, low, 1, 10);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 11);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 6, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network14(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 10, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 6, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 6);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 3, 9);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 7, 13);
+        exchange(array, low, 8, 12);
+
+        exchange(array, low, 2, 10);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 8);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 12);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network15(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    private static void network16(@NotNull final int[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 2, 15);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 10, 15);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+        exchange(array, low, 14, 15);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+        exchange(array, low, 13, 15);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j, without branching.
+     */
+    private static void exchange(@NotNull final int[] array, final int low, final int i, final int j) {
+        final int a = array[low + i];
+        final int b = array[low + j];
+        array[low + i] = Math.min(a, b);
+        array[low + j] = Math.max(a, b);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Long Networks ==========
+
+    private static void network2(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 1);
+    }
+
+    private static void network3(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 2);
+
+        exchange(array, low, 0, 1);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network4(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network5(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 4);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 2, 3);
+    }
+
+    private static void network6(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 5);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+    }
+
+    private static void network7(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network8(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network9(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 8);
+
+        exchange(array, low, 0, 7);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 5, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network10(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 9);
+        exchange(array, low, 2, 7);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network11(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 9);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network12(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 5, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 10);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+    }
+
+    private static void network13(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 12);
+        exchange(array, low, 1, 10);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 11);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 6, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network14(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 10, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 6, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 6);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 3, 9);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 7, 13);
+        exchange(array, low, 8, 12);
+
+        exchange(array, low, 2, 10);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 8);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 12);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network15(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    private static void network16(@NotNull final long[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 2, 15);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 10, 15);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+        exchange(array, low, 14, 15);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+        exchange(array, low, 13, 15);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j, without branching.
+     */
+    private static void exchange(@NotNull final long[] array, final int low, final int i, final int j) {
+        final long a = array[low + i];
+        final long b = array[low + j];
+        array[low + i] = Math.min(a, b);
+        array[low + j] = Math.max(a, b);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Short Networks ==========
+
+    private static void network2(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 1);
+    }
+
+    private static void network3(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 2);
+
+        exchange(array, low, 0, 1);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network4(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network5(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 4);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 2, 3);
+    }
+
+    private static void network6(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 5);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+    }
+
+    private static void network7(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network8(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network9(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 8);
+
+        exchange(array, low, 0, 7);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 5, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network10(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 9);
+        exchange(array, low, 2, 7);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network11(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 9);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network12(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 5, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 10);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+    }
+
+    private static void network13(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 12);
+        exchange(array, low, 1, 10);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 11);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 6, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network14(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 10, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 6, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 6);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 3, 9);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 7, 13);
+        exchange(array, low, 8, 12);
+
+        exchange(array, low, 2, 10);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 8);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 12);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network15(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    private static void network16(@NotNull final short[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 2, 15);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 10, 15);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+        exchange(array, low, 14, 15);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+        exchange(array, low, 13, 15);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j, without branching.
+     */
+    private static void exchange(@NotNull final short[] array, final int low, final int i, final int j) {
+        final short a = array[low + i];
+        final short b = array[low + j];
+        array[low + i] = (short) Math.min(a, b);
+        array[low + j] = (short) Math.max(a, b);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Char Networks ==========
+
+    private static void network2(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 1);
+    }
+
+    private static void network3(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 2);
+
+        exchange(array, low, 0, 1);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network4(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network5(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 4);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 2, 3);
+    }
+
+    private static void network6(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 5);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+    }
+
+    private static void network7(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network8(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network9(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 8);
+
+        exchange(array, low, 0, 7);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 5, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network10(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 9);
+        exchange(array, low, 2, 7);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network11(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 9);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network12(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 5, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 10);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+    }
+
+    private static void network13(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 12);
+        exchange(array, low, 1, 10);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 11);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 6, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network14(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 10, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 6, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 6);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 3, 9);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 7, 13);
+        exchange(array, low, 8, 12);
+
+        exchange(array, low, 2, 10);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 8);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 12);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network15(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    private static void network16(@NotNull final char[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 2, 15);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 10, 15);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+        exchange(array, low, 14, 15);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+        exchange(array, low, 13, 15);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j, without branching.
+     */
+    private static void exchange(@NotNull final char[] array, final int low, final int i, final int j) {
+        final char a = array[low + i];
+        final char b = array[low + j];
+        array[low + i] = (char) Math.min(a, b);
+        array[low + j] = (char) Math.max(a, b);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Float Networks ==========
+
+    private static void network2(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 1);
+    }
+
+    private static void network3(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 2);
+
+        exchange(array, low, 0, 1);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network4(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network5(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 4);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 2, 3);
+    }
+
+    private static void network6(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 5);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+    }
+
+    private static void network7(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network8(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network9(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 8);
+
+        exchange(array, low, 0, 7);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 5, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network10(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 9);
+        exchange(array, low, 2, 7);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network11(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 9);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network12(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 5, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 10);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+    }
+
+    private static void network13(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 12);
+        exchange(array, low, 1, 10);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 11);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 6, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network14(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 10, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 6, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 6);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 3, 9);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 7, 13);
+        exchange(array, low, 8, 12);
+
+        exchange(array, low, 2, 10);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 8);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 12);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network15(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    private static void network16(@NotNull final float[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 2, 15);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 10, 15);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+        exchange(array, low, 14, 15);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+        exchange(array, low, 13, 15);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j, without branching.
+     * The swap is done on the raw bits under a mask so the JIT can use integer conditional
+     * moves; a floating-point ternary or {@link Math#min(float, float)} measured slower.
+     */
+    private static void exchange(@NotNull final float[] array, final int low, final int i, final int j) {
+        final float a = array[low + i];
+        final float b = array[low + j];
+        final int x = Float.floatToRawIntBits(a);
+        final int y = Float.floatToRawIntBits(b);
+        final int difference = (x ^ y) & -(b < a ? 1 : 0);
+        array[low + i] = Float.intBitsToFloat(x ^ difference);
+        array[low + j] = Float.intBitsToFloat(y ^ difference);
+    }
+
+    // ========== PRIVATE IMPLEMENTATION - Double Networks ==========
+
+    private static void network2(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 1);
+    }
+
+    private static void network3(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 2);
+
+        exchange(array, low, 0, 1);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network4(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+
+        exchange(array, low, 1, 2);
+    }
+
+    private static void network5(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 4);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 2, 3);
+    }
+
+    private static void network6(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 5);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+    }
+
+    private static void network7(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network8(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network9(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 8);
+
+        exchange(array, low, 0, 7);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 5, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network10(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 9);
+        exchange(array, low, 2, 7);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 4);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 5);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network11(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 9);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network12(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 8);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 9);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 6);
+        exchange(array, low, 5, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 0, 3);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 10);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+    }
+
+    private static void network13(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 12);
+        exchange(array, low, 1, 10);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 1, 6);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 11);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 8, 10);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 8, 11);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 3, 8);
+        exchange(array, low, 4, 7);
+        exchange(array, low, 6, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 5);
+        exchange(array, low, 6, 9);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 10, 11);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 6, 8);
+
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+    }
+
+    private static void network14(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 9);
+        exchange(array, low, 10, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 0, 4);
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 7);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 6, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 6);
+        exchange(array, low, 1, 5);
+        exchange(array, low, 3, 9);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 7, 13);
+        exchange(array, low, 8, 12);
+
+        exchange(array, low, 2, 10);
+        exchange(array, low, 3, 11);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 7, 9);
+
+        exchange(array, low, 1, 3);
+        exchange(array, low, 2, 8);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 3, 5);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 12);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 11);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 6, 7);
+    }
+
+    private static void network15(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    private static void network16(@NotNull final double[] array, final int low) {
+        exchange(array, low, 0, 13);
+        exchange(array, low, 1, 12);
+        exchange(array, low, 2, 15);
+        exchange(array, low, 3, 14);
+        exchange(array, low, 4, 8);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 11);
+        exchange(array, low, 9, 10);
+
+        exchange(array, low, 0, 5);
+        exchange(array, low, 1, 7);
+        exchange(array, low, 2, 9);
+        exchange(array, low, 3, 4);
+        exchange(array, low, 6, 13);
+        exchange(array, low, 8, 14);
+        exchange(array, low, 10, 15);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 0, 1);
+        exchange(array, low, 2, 3);
+        exchange(array, low, 4, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 11);
+        exchange(array, low, 12, 13);
+        exchange(array, low, 14, 15);
+
+        exchange(array, low, 0, 2);
+        exchange(array, low, 1, 3);
+        exchange(array, low, 4, 10);
+        exchange(array, low, 5, 11);
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+        exchange(array, low, 12, 14);
+        exchange(array, low, 13, 15);
+
+        exchange(array, low, 1, 2);
+        exchange(array, low, 3, 12);
+        exchange(array, low, 4, 6);
+        exchange(array, low, 5, 7);
+        exchange(array, low, 8, 10);
+        exchange(array, low, 9, 11);
+        exchange(array, low, 13, 14);
+
+        exchange(array, low, 1, 4);
+        exchange(array, low, 2, 6);
+        exchange(array, low, 5, 8);
+        exchange(array, low, 7, 10);
+        exchange(array, low, 9, 13);
+        exchange(array, low, 11, 14);
+
+        exchange(array, low, 2, 4);
+        exchange(array, low, 3, 6);
+        exchange(array, low, 9, 12);
+        exchange(array, low, 11, 13);
+
+        exchange(array, low, 3, 5);
+        exchange(array, low, 6, 8);
+        exchange(array, low, 7, 9);
+        exchange(array, low, 10, 12);
+
+        exchange(array, low, 3, 4);
+        exchange(array, low, 5, 6);
+        exchange(array, low, 7, 8);
+        exchange(array, low, 9, 10);
+        exchange(array, low, 11, 12);
+
+        exchange(array, low, 6, 7);
+        exchange(array, low, 8, 9);
+    }
+
+    /**
+     * Orders array[low + i] and array[low + j], with i &lt; j, without branching.
+     * The swap is done on the raw bits under a mask so the JIT can use integer conditional
+     * moves; a floating-point ternary or {@link Math#min(double, double)} measured slower.
+     */
+    private static void exchange(@NotNull final double[] array, final int low, final int i, final int j) {
+        final double a = array[low + i];
+        final double b = array[low + j];
+        final long x = Double.doubleToRawLongBits(a);
+        final long y = Double.doubleToRawLongBits(b);
+        final long difference = (x ^ y) & -(b < a ? 1L : 0);
+        array[low + i] = Double.longBitsToDouble(x ^ difference);
+        array[low + j] = Double.longBitsToDouble(y ^ difference);
+    }
+
+    private static void checkLength(final int length) {
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Length must be at most " + MAX_LENGTH + ": " + length);
+        }
+    }
+}
\ No newline at end of file
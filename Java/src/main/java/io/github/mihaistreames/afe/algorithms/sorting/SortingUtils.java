@@ -0,0 +1,352 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+
+/**
+ * Internal helpers shared by the sorting algorithms in this package.
+ * <p>
+ * All sorting kernels operate directly on arrays. Lists are copied into an array, sorted
+ * there, and written back with a single {@link ListIterator} pass, so every algorithm pays
+ * the same O(n) overhead instead of interface dispatch and bounds checks on every element
+ * access, and lists without {@link java.util.RandomAccess} no longer cost O(n) per access.
+ * </p>
+ *
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+final class SortingUtils {
+
+    private SortingUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a list through an array copy.
+     * <p>
+     * The JDK offers no access to the backing array of its list implementations, so the
+     * list is copied once, sorted by the array kernel, and written back in order.
+     * </p>
+     *
+     * @param list   the list to sort
+     * @param sorter the array kernel that sorts the copy in place
+     */
+    static <T> void sortThroughArray(@NotNull final List<T> list, @NotNull final Consumer<T[]> sorter) {
+        final T[] array = toArray(list);
+        sorter.accept(array);
+        writeBack(list, array);
+    }
+
+    /**
+     * Sorts list[fromIndex..toIndex) through an array copy of just that range.
+     * <p>
+     * Both the copy and the write-back walk a single {@link ListIterator} positioned at
+     * fromIndex, so elements outside the range are never read or written.
+     * </p>
+     *
+     * @param list      the list to sort
+     * @param fromIndex the index of the first element to sort, inclusive
+     * @param toIndex   the index of the last element to sort, exclusive
+     * @param sorter    the array kernel that sorts the copy in place
+     */
+    static <T> void sortRangeThroughArray(@NotNull final List<T> list,
+                                          final int fromIndex,
+                                          final int toIndex,
+                                          @NotNull final Consumer<T[]> sorter) {
+        final T[] array = newBuffer(toIndex - fromIndex);
+        final ListIterator<T> reader = list.listIterator(fromIndex);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = reader.next();
+        }
+
+        sorter.accept(array);
+
+        final ListIterator<T> writer = list.listIterator(fromIndex);
+        for (final T element : array) {
+            writer.next();
+            writer.set(element);
+        }
+    }
+
+    /**
+     * Checks that [fromIndex, toIndex) is a valid range of an array of the given length,
+     * with the same exceptions as {@link java.util.Arrays#sort(Object[], int, int)}.
+     */
+    static void checkArrayRange(final int length, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * Checks that [fromIndex, toIndex) is a valid range of a list of the given size,
+     * with the same exceptions as {@link List#subList(int, int)}.
+     */
+    static void checkListRange(final int size, final int fromIndex, final int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        }
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+    }
+
+    /**
+     * Allocates a scratch buffer for the array kernels.
+     * <p>
+     * The result is an {@code Object[]} behind the {@code T[]} type, so it must never be
+     * handed back to callers expecting a specific array type.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T[] newBuffer(final int length) {
+        return (T[]) new Object[length];
+    }
+
+    /**
+     * Copies the list into a new array.
+     * <p>
+     * The result is an {@code Object[]} behind the {@code T[]} type, so it must never be
+     * handed back to callers expecting a specific array type.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T[] toArray(@NotNull final List<T> list) {
+        return (T[]) list.toArray();
+    }
+
+    /**
+     * Copies the first {@code list.size()} elements of the array back into the list in one
+     * sequential pass.
+     */
+    static <T> void writeBack(@NotNull final List<T> list, @NotNull final T[] array) {
+        final ListIterator<T> iterator = list.listIterator();
+        int index = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.set(array[index++]);
+        }
+    }
+
+    /**
+     * Returns the identity permutation of the given length.
+     */
+    static int[] identity(final int length) {
+        final int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    // ========== FLOATING-POINT ORDERING ==========
+
+    /**
+     * Kernel that sorts double[low..high] in place using plain {@code <} comparisons.
+     */
+    @FunctionalInterface
+    interface DoubleKernel {
+        void sort(double[] array, int low, int high);
+    }
+
+    /**
+     * Kernel that sorts float[low..high] in place using plain {@code <} comparisons.
+     */
+    @FunctionalInterface
+    interface FloatKernel {
+        void sort(float[] array, int low, int high);
+    }
+
+    /**
+     * Maps IEEE-754 single-precision bits to an {@code int} whose signed order matches the
+     * numerical order of the value. The mapping is its own inverse.
+     */
+    static int orderedBits(final int bits) {
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Maps IEEE-754 double-precision bits to a {@code long} whose signed order matches the
+     * numerical order of the value. The mapping is its own inverse.
+     */
+    static long orderedBits(final long bits) {
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Sorts array[low..high] into the total order of {@link Double#compare(double, double)}.
+     * <p>
+     * NaN values are moved to the end first, so the kernel can compare with {@code <}.
+     * Afterwards the block of zeros is rewritten so that {@code -0.0} precedes {@code 0.0}.
+     * </p>
+     */
+    static void sortDoubles(@NotNull final double[] array,
+                            final int low,
+                            final int high,
+                            @NotNull final DoubleKernel kernel) {
+        // Move NaNs to the end
+        int last = high;
+        for (int i = high; i >= low; i--) {
+            final double value = array[i];
+            if (value != value) {
+                array[i] = array[last];
+                array[last--] = value;
+            }
+        }
+
+        kernel.sort(array, low, last);
+
+        // Find the first element that is not negative, i.e. the first zero if any
+        int left = low;
+        int right = last + 1;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] < 0.0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+
+        // Count negative zeros in the block of zeros and rewrite it in order
+        int negativeZeros = 0;
+        int end = left;
+        while (end <= last && array[end] == 0.0) {
+            if (Double.doubleToRawLongBits(array[end]) < 0) {
+                negativeZeros++;
+            }
+            end++;
+        }
+        for (int i = left; i < end; i++) {
+            array[i] = i < left + negativeZeros ? -0.0 : 0.0;
+        }
+    }
+
+    /**
+     * Sorts array[low..high] into the total order of {@link Float#compare(float, float)}.
+     * <p>
+     * NaN values are moved to the end first, so the kernel can compare with {@code <}.
+     * Afterwards the block of zeros is rewritten so that {@code -0.0f} precedes {@code 0.0f}.
+     * </p>
+     */
+    static void sortFloats(@NotNull final float[] array,
+                           final int low,
+                           final int high,
+                           @NotNull final FloatKernel kernel) {
+        // Move NaNs to the end
+        int last = high;
+        for (int i = high; i >= low; i--) {
+            final float value = array[i];
+            if (value != value) {
+                array[i] = array[last];
+                array[last--] = value;
+            }
+        }
+
+        kernel.sort(array, low, last);
+
+        // Find the first element that is not negative, i.e. the first zero if any
+        int left = low;
+        int right = last + 1;
+        while (left < right) {
+            final int mid = (left + right) >>> 1;
+            if (array[mid] < 0.0f) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+
+        // Count negative zeros in the block of zeros and rewrite it in order
+        int negativeZeros = 0;
+        int end = left;
+        while (end <= last && array[end] == 0.0f) {
+            if (Float.floatToRawIntBits(array[end]) < 0) {
+                negativeZeros++;
+            }
+            end++;
+        }
+        for (int i = left; i < end; i++) {
+            array[i] = i < left + negativeZeros ? -0.0f : 0.0f;
+        }
+    }
+
+    // ========== ORDERED KEYS ==========
+
+    /**
+     * Widens the values to {@code long} keys with the same order.
+     */
+    static long[] orderedKeys(@NotNull final int[] array) {
+        final long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = array[i];
+        }
+        return keys;
+    }
+
+    /**
+     * Copies the values as {@code long} keys.
+     */
+    static long[] orderedKeys(@NotNull final long[] array) {
+        return array.clone();
+    }
+
+    /**
+     * Widens the values to {@code long} keys with the same order.
+     */
+    static long[] orderedKeys(@NotNull final short[] array) {
+        final long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = array[i];
+        }
+        return keys;
+    }
+
+    /**
+     * Widens the values to {@code long} keys with the same order.
+     */
+    static long[] orderedKeys(@NotNull final char[] array) {
+        final long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = array[i];
+        }
+        return keys;
+    }
+
+    /**
+     * Maps the values to {@code long} keys ordered like {@link Float#compare(float, float)}.
+     * NaN values are collapsed to the canonical NaN, so they all compare equal and last.
+     */
+    static long[] orderedKeys(@NotNull final float[] array) {
+        final long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = orderedBits(Float.floatToIntBits(array[i]));
+        }
+        return keys;
+    }
+
+    /**
+     * Maps the values to {@code long} keys ordered like {@link Double#compare(double, double)}.
+     * NaN values are collapsed to the canonical NaN, so they all compare equal and last.
+     */
+    static long[] orderedKeys(@NotNull final double[] array) {
+        final long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = orderedBits(Double.doubleToLongBits(array[i]));
+        }
+        return keys;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,429 @@
+package io.github.mihaistreames.afe.algorithms.sorting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the k largest or smallest elements seen in a stream of any length.
+ * <p>
+ * Elements are offered one at a time and only the best k are retained, in a bounded
+ * {@link HeapSort} heap whose root is the worst element kept. Once the heap is full, an
+ * element that cannot enter it is rejected with a single comparison against the root,
+ * which is the common case on long streams. Memory stays O(k) however many elements are
+ * offered. {@link #drain()} returns the kept elements best first and resets the instance.
+ * </p>
+ * <p>
+ * Elements that compare equal to the worst kept element do not replace it, so among ties
+ * the earliest offered are kept. Instances are not thread-safe; the collectors returned by
+ * {@link #toLargest(int, Comparator)} and {@link #toSmallest(int, Comparator)} combine
+ * per-thread instances for parallel streams.
+ * </p>
+ * <p>
+ * <strong>Time Complexity:</strong> O(n log k) worst case, O(n) when most elements are rejected<br>
+ * <strong>Space Complexity:</strong> O(k)
+ * </p>
+ * <pre>{@code
+ * TopK<Order> biggest = TopK.largest(10, byTotal);
+ * orders.forEachRemaining(biggest::offer);
+ * List<Order> top10 = biggest.drain();
+ *
+ * List<Order> cheapest = orderStream.collect(TopK.toSmallest(5, byTotal));
+ * }</pre>
+ *
+ * @param <T> the type of elements
+ * @author Sincos Team
+ * @version 1.0.0
+ * @since 0.0.3
+ */
+public final class TopK<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private final Comparator<T> worstFirst;  // Heap order: the root is the worst element kept
+    private T[] heap;
+    private int size;
+
+    private TopK(final int k, @NotNull final Comparator<T> worstFirst) {
+        checkK(k);
+        this.k = k;
+        this.worstFirst = worstFirst;
+        this.heap = SortingUtils.newBuffer(Math.min(k, INITIAL_CAPACITY));
+    }
+
+    // ========== PUBLIC API - Factories ==========
+
+    /**
+     * Creates a tracker for the k largest elements in natural order.
+     *
+     * @param <T> the type of elements, must extend {@link Comparable}
+     * @param k   the number of elements to keep
+     * @return an empty tracker
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T extends Comparable<T>> TopK<T> largest(final int k) {
+        return largest(k, Comparable::compareTo);
+    }
+
+    /**
+     * Creates a tracker for the k largest elements according to the comparator.
+     *
+     * @param <T>        the type of elements
+     * @param k          the number of elements to keep
+     * @param comparator the comparator to determine element order
+     * @return an empty tracker
+     * @throws NullPointerException     if the comparator is null
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T> TopK<T> largest(final int k, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return new TopK<>(k, comparator.reversed());
+    }
+
+    /**
+     * Creates a tracker for the k smallest elements in natural order.
+     *
+     * @param <T> the type of elements, must extend {@link Comparable}
+     * @param k   the number of elements to keep
+     * @return an empty tracker
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T extends Comparable<T>> TopK<T> smallest(final int k) {
+        return smallest(k, Comparable::compareTo);
+    }
+
+    /**
+     * Creates a tracker for the k smallest elements according to the comparator.
+     *
+     * @param <T>        the type of elements
+     * @param k          the number of elements to keep
+     * @param comparator the comparator to determine element order
+     * @return an empty tracker
+     * @throws NullPointerException     if the comparator is null
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T> TopK<T> smallest(final int k, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        return new TopK<>(k, comparator);
+    }
+
+    // ========== PUBLIC API - Collectors ==========
+
+    /**
+     * Returns a collector of the k largest elements in natural order, largest first.
+     *
+     * @param <T> the type of elements, must extend {@link Comparable}
+     * @param k   the number of elements to keep
+     * @return a collector producing a list of at most k elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T extends Comparable<T>> Collector<T, ?, List<T>> toLargest(final int k) {
+        return toLargest(k, Comparable::compareTo);
+    }
+
+    /**
+     * Returns a collector of the k largest elements according to the comparator, largest first.
+     *
+     * @param <T>        the type of elements
+     * @param k          the number of elements to keep
+     * @param comparator the comparator to determine element order
+     * @return a collector producing a list of at most k elements
+     * @throws NullPointerException     if the comparator is null
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T> Collector<T, ?, List<T>> toLargest(final int k, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkK(k);
+        return collector(() -> largest(k, comparator));
+    }
+
+    /**
+     * Returns a collector of the k smallest elements in natural order, smallest first.
+     *
+     * @param <T> the type of elements, must extend {@link Comparable}
+     * @param k   the number of elements to keep
+     * @return a collector producing a list of at most k elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T extends Comparable<T>> Collector<T, ?, List<T>> toSmallest(final int k) {
+        return toSmallest(k, Comparable::compareTo);
+    }
+
+    /**
+     * Returns a collector of the k smallest elements according to the comparator, smallest first.
+     *
+     * @param <T>        the type of elements
+     * @param k          the number of elements to keep
+     * @param comparator the comparator to determine element order
+     * @return a collector producing a list of at most k elements
+     * @throws NullPointerException     if the comparator is null
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T> Collector<T, ?, List<T>> toSmallest(final int k, @NotNull final Comparator<T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        checkK(k);
+        return collector(() -> smallest(k, comparator));
+    }
+
+    // ========== PUBLIC API - Instance Operations ==========
+
+    /**
+     * Offers an element, keeping it if it is among the best k seen so far.
+     *
+     * @param element the element to offer
+     * @return true if the element was kept, false if it was rejected
+     */
+    public boolean offer(final T element) {
+        if (size < k) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * heap.length));
+            }
+            heap[size++] = element;
+            if (size == k) {
+                // Only the first k elements are unordered; from here on the heap is maintained
+                for (int i = k / 2 - 1; i >= 0; i--) {
+                    HeapSort.heapify(heap, 0, k, i, worstFirst);
+                }
+            }
+            return true;
+        }
+
+        if (k == 0 || worstFirst.compare(element, heap[0]) >= 0) {
+            return false;
+        }
+        heap[0] = element;
+        HeapSort.heapify(heap, 0, k, 0, worstFirst);
+        return true;
+    }
+
+    /**
+     * Offers every remaining element of the iterator.
+     *
+     * @param elements the elements to offer
+     * @throws NullPointerException if the iterator is null
+     */
+    public void offerAll(@NotNull final Iterator<? extends T> elements) {
+        Objects.requireNonNull(elements, "Iterator cannot be null");
+        while (elements.hasNext()) {
+            offer(elements.next());
+        }
+    }
+
+    /**
+     * Returns the number of elements currently kept, at most k.
+     *
+     * @return the number of elements kept
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes and returns the kept elements, best first, leaving this tracker empty.
+     *
+     * @return a new list of the kept elements, largest first for {@code largest} trackers
+     *         and smallest first for {@code smallest} trackers
+     */
+    public List<T> drain() {
+        // Ascending in heap order puts the best element first
+        HeapSort.heapSort(heap, 0, size - 1, worstFirst);
+        final List<T> result = new ArrayList<>(Arrays.asList(heap).subList(0, size));
+
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+        return result;
+    }
+
+    // ========== PRIMITIVE VARIANTS ==========
+
+    /**
+     * Keeps the k largest or smallest {@code long} values seen, without boxing.
+     * <p>
+     * Values are stored with their bits flipped for {@code largest} trackers, so one
+     * {@link HeapSort} max-heap serves both directions. Rejection costs a single comparison.
+     * </p>
+     */
+    public static final class OfLong {
+        private final int k;
+        private final long flip;  // ~0 keeps the largest values, 0 the smallest
+        private long[] heap;
+        private int size;
+
+        private OfLong(final int k, final long flip) {
+            checkK(k);
+            this.k = k;
+            this.flip = flip;
+            this.heap = new long[Math.min(k, INITIAL_CAPACITY)];
+        }
+
+        /**
+         * Creates a tracker for the k largest values.
+         *
+         * @param k the number of values to keep
+         * @return an empty tracker
+         * @throws IllegalArgumentException if k is negative
+         */
+        public static OfLong largest(final int k) {
+            return new OfLong(k, ~0L);
+        }
+
+        /**
+         * Creates a tracker for the k smallest values.
+         *
+         * @param k the number of values to keep
+         * @return an empty tracker
+         * @throws IllegalArgumentException if k is negative
+         */
+        public static OfLong smallest(final int k) {
+            return new OfLong(k, 0L);
+        }
+
+        /**
+         * Offers a value, keeping it if it is among the best k seen so far.
+         *
+         * @param value the value to offer
+         * @return true if the value was kept, false if it was rejected
+         */
+        public boolean offer(final long value) {
+            final long key = value ^ flip;
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * heap.length));
+                }
+                heap[size++] = key;
+                if (size == k) {
+                    for (int i = k / 2 - 1; i >= 0; i--) {
+                        HeapSort.heapify(heap, 0, k, i);
+                    }
+                }
+                return true;
+            }
+
+            if (k == 0 || key >= heap[0]) {
+                return false;
+            }
+            heap[0] = key;
+            HeapSort.heapify(heap, 0, k, 0);
+            return true;
+        }
+
+        /**
+         * Returns the number of values currently kept, at most k.
+         *
+         * @return the number of values kept
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Removes and returns the kept values, best first, leaving this tracker empty.
+         *
+         * @return a new array of the kept values, largest first for {@code largest} trackers
+         *         and smallest first for {@code smallest} trackers
+         */
+        public long[] drain() {
+            HeapSort.heapSort(heap, 0, size - 1);
+            final long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = heap[i] ^ flip;
+            }
+
+            size = 0;
+            return result;
+        }
+    }
+
+    /**
+     * Keeps the k largest or smallest {@code double} values seen, without boxing.
+     * <p>
+     * Values are ordered like {@link Double#compare(double, double)}: {@code -0.0} below
+     * {@code 0.0}, and NaN above every other value. Every NaN is returned as
+     * {@link Double#NaN}. Internally each value is mapped to an order-preserving {@code long}
+     * key and tracked by an {@link OfLong}.
+     * </p>
+     */
+    public static final class OfDouble {
+        private final OfLong keys;
+
+        private OfDouble(@NotNull final OfLong keys) {
+            this.keys = keys;
+        }
+
+        /**
+         * Creates a tracker for the k largest values.
+         *
+         * @param k the number of values to keep
+         * @return an empty tracker
+         * @throws IllegalArgumentException if k is negative
+         */
+        public static OfDouble largest(final int k) {
+            return new OfDouble(OfLong.largest(k));
+        }
+
+        /**
+         * Creates a tracker for the k smallest values.
+         *
+         * @param k the number of values to keep
+         * @return an empty tracker
+         * @throws IllegalArgumentException if k is negative
+         */
+        public static OfDouble smallest(final int k) {
+            return new OfDouble(OfLong.smallest(k));
+        }
+
+        /**
+         * Offers a value, keeping it if it is among the best k seen so far.
+         *
+         * @param value the value to offer
+         * @return true if the value was kept, false if it was rejected
+         */
+        public boolean offer(final double value) {
+            return keys.offer(SortingUtils.orderedBits(Double.doubleToLongBits(value)));
+        }
+
+        /**
+         * Returns the number of values currently kept, at most k.
+         *
+         * @return the number of values kept
+         */
+        public int size() {
+            return keys.size();
+        }
+
+        /**
+         * Removes and returns the kept values, best first, leaving this tracker empty.
+         *
+         * @return a new array of the kept values, largest first for {@code largest} trackers
+         *         and smallest first for {@code smallest} trackers
+         */
+        public double[] drain() {
+            final long[] drained = keys.drain();
+            final double[] result = new double[drained.length];
+            for (int i = 0; i < drained.length; i++) {
+                result[i] = Double.longBitsToDouble(SortingUtils.orderedBits(drained[i]));
+            }
+            return result;
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static void checkK(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative: " + k);
+        }
+    }
+
+    private static <T> Collector<T, ?, List<T>> collector(@NotNull final Supplier<TopK<T>> factory) {
+        return Collector.of(factory, TopK::offer, (left, right) -> {
+            for (int i = 0; i < right.size; i++) {
+                left.offer(right.heap[i]);
+            }
+            return left;
+        }, TopK::drain);
+    }
+}
\ No newline at end of file